@@ -37,6 +37,12 @@ public const DES_BYTE_ARRAY = "BYTE_ARRAY";
 # In-built Kafka string deserializer.
 public const DES_STRING = "STRING";
 
+# In-built Kafka JSON deserializer.
+public const DES_JSON = "JSON";
+
+# In-built Kafka XML deserializer.
+public const DES_XML = "XML";
+
 # In-built Kafka int deserializer.
 public const DES_INT = "INT";
 
@@ -66,6 +72,18 @@ public const OFFSET_RESET_LATEST = "latest";
 # for the consumer group
 public const OFFSET_RESET_NONE = "none";
 
+// Polling modes.
+# Polls the broker at a fixed rate of the `pollingInterval`.
+public const POLLING_MODE_FIXED = "FIXED";
+
+# Polls the broker again as soon as the previous batch is dispatched, waiting for the records within the
+# `pollingTimeout` and the `fetchMaxWaitTime`.
+public const POLLING_MODE_CONTINUOUS = "CONTINUOUS";
+
+# Polls the broker again after a delay, which shrinks while records are received and grows up to the
+# `pollingInterval` while idle.
+public const POLLING_MODE_ADAPTIVE = "ADAPTIVE";
+
 // ********************************************
 //         Producer-Related constants         *
 // ********************************************
@@ -89,6 +107,12 @@ public const SER_BYTE_ARRAY = "BYTE_ARRAY";
 # In-built Kafka string serializer.
 public const SER_STRING = "STRING";
 
+# In-built Kafka JSON serializer.
+public const SER_JSON = "JSON";
+
+# In-built Kafka XML serializer.
+public const SER_XML = "XML";
+
 # In-built Kafka int serializer.
 public const SER_INT = "INT";
 
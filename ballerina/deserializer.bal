@@ -14,15 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
-//# Represents a Kafka deserializer object. This object can be used to create custom deserializers for Ballerina Kafka
-//# consumers.
-//public type Deserializer object {
-//    # Closes the deserialization process. This function runs after the deserialization process is done.
-//    public isolated function close();
-//
-//    # Deserializes the provided data. Implement this to deserialize a `byte[]` and return any data type.
-//    #
-//    # + data - Data, which should be deserialized
-//    # + return - The deserialized value
-//    public isolated function deserialize(byte[] data) returns any;
-//};
+// Custom deserializers of the Kafka consumers and listeners are implemented natively, as services of the
+// `io.ballerina.stdlib.kafka.api.KafkaDeserializer` Java interface discovered from the classpath of the program. The
+// deserializers are selected by name with the `keyDeserializer`, `valueDeserializer` and `topicValueDeserializers`
+// consumer configurations, along with the built-in `kafka:DES_BYTE_ARRAY`, `kafka:DES_STRING`, `kafka:DES_JSON` and
+// `kafka:DES_XML` deserializers.
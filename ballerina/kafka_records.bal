@@ -101,6 +101,9 @@ public type AuthenticationConfiguration record {|
 # + retryBackoff - Time (in seconds) to wait before attempting to retry a failed request
 # + metricsSampleWindow - Window of time (in seconds) a metrics sample is computed over
 # + metricsNumSamples - Number of samples maintained to compute metrics
+# + clientMetrics - Names of the Kafka client metrics reported as Ballerina metrics when the metrics are enabled. A
+#                   default set of the client metrics is reported when this is not set
+# + clientMetricsSampleInterval - Interval (in seconds) at which the reported Kafka client metrics are sampled
 # + requestTimeout - Wait time (in seconds) for response of a request
 # + connectionMaxIdleTime - Close idle connections after the number of seconds
 # + maxPollRecords - Maximum number of records returned in a single call to poll
@@ -108,17 +111,54 @@ public type AuthenticationConfiguration record {|
 # + reconnectBackoffTime - Time (in seconds) to wait before attempting to reconnect
 # + pollingTimeout - Timeout interval for polling in seconds
 # + pollingInterval - Polling interval for the consumer in seconds
+# + pollingMode - Polling mode of the listener. The `pollingInterval` is the fixed polling rate in the
+#                 `POLLING_MODE_FIXED` mode and the maximum delay between polls in the `POLLING_MODE_ADAPTIVE` mode
 # + concurrentConsumers - Number of concurrent consumers
+# + maxInFlightBatches - Maximum number of batches polled ahead of the batch being processed, when
+#                        `decoupleProcessing` is enabled
+# + backPressureTimeout - Time (in seconds) to wait for the records being processed by the listener service before
+#                         polling the consumer with its partitions paused, so that a slow service does not exceed the
+#                         `maxPollInterval`. Defaults to the `pollingTimeout`
+# + offsetCommitInterval - Minimum interval (in seconds) between two asynchronous offset commits of the listener. The
+#                          offsets of the processed records are committed on each poll by default
+# + maxUncommittedRecords - Number of processed records which triggers an offset commit of the listener before the
+#                           `offsetCommitInterval` is elapsed
+# + minBatchRecords - Minimum number of records dispatched to the listener service at once. The records of consecutive
+#                     polls are accumulated until this number of records is reached, or the `maxBatchWait` is elapsed
+# + maxBatchBytes - Size (in bytes) of the serialized keys and values of the records accumulated from consecutive polls,
+#                   which dispatches them to the listener service before the `minBatchRecords` is reached
+# + maxBatchWait - Maximum time (in seconds) to accumulate the records of consecutive polls, when `minBatchRecords` or
+#                  `maxBatchBytes` is set. Defaults to the `pollingInterval`
+# + parallelBindingThreshold - Minimum number of records in a polled batch to bind them to the intended types in
+#                              parallel. The records are bound one at a time when this is not set
+# + headerKeys - Names of the record headers to be bound to the consumer records. All the headers are bound when this
+#                is not set
+# + keyDeserializer - Name of the deserializer of the record keys. A built-in deserializer such as `kafka:DES_JSON`, or
+#                     a native deserializer registered with the Kafka module. The keys are bound based on their
+#                     intended types when this is not set
+# + valueDeserializer - Name of the deserializer of the record values. The values are bound based on their intended
+#                       types when this is not set
+# + topicValueDeserializers - Names of the deserializers of the record values of specific topics, keyed by the topic
 # + defaultApiTimeout - Default API timeout value (in seconds) for APIs with duration
 # + autoCommit - Enables auto committing offsets
 # + checkCRCS - Checks the CRC32 of the records consumed. This ensures that no on-the-wire or on-disk corruption occurred
 #               to the messages. This may add some overhead and might need to be set to `false` if extreme
 #               performance is required
 # + excludeInternalTopics - Whether records from internal topics should be exposed to the consumer
-# + decoupleProcessing - Decouples processing
+# + decoupleProcessing - Polls the next batches while the current batch is being processed by the listener service.
+#                        Offsets are committed once a batch is processed. As `caller->commit()` may also commit the
+#                        batches polled ahead, prefer `caller->commitOffset()` when committing manually
 # + validation - Configuration related to constraint validation check
 # + autoSeekOnValidationFailure - Automatically seeks past the errornous records in the event of an data-binding or
 #                                 validating constraints failure
+# + concurrentPartitionDispatch - Dispatches the records of each partition received in a poll to an isolated
+#                                 `onConsumerRecord` remote function concurrently. Records are processed in order within
+#                                 a partition, and the offsets of a partition are committed once its records are
+#                                 processed. Attaching a service which is not isolated fails when this is enabled
+# + keyOrderedDispatch - Dispatches the records having the same key in a partition received in a poll to an isolated
+#                        `onConsumerRecord` remote function concurrently. Records are processed in order within a key,
+#                        and the offsets of a partition are committed up to the first record which is not processed yet.
+#                        Attaching a service which is not isolated fails when this is enabled
 # + secureSocket - Configurations related to SSL/TLS encryption
 # + auth - Authentication-related configurations for the `kafka:Consumer`
 # + securityProtocol - Type of the security protocol to use in the broker connection
@@ -151,6 +191,8 @@ public type ConsumerConfiguration record {|
     decimal retryBackoff?;
     decimal metricsSampleWindow?;
     int metricsNumSamples?;
+    string[] clientMetrics?;
+    decimal clientMetricsSampleInterval = 10;
     decimal requestTimeout?;
     decimal connectionMaxIdleTime?;
     int maxPollRecords?;
@@ -158,7 +200,20 @@ public type ConsumerConfiguration record {|
     decimal reconnectBackoffTime?;
     decimal pollingTimeout?;
     decimal pollingInterval?;
+    PollingMode pollingMode?;
     int concurrentConsumers?;
+    int maxInFlightBatches?;
+    decimal backPressureTimeout?;
+    decimal offsetCommitInterval?;
+    int maxUncommittedRecords?;
+    int minBatchRecords?;
+    int maxBatchBytes?;
+    decimal maxBatchWait?;
+    int parallelBindingThreshold?;
+    string[] headerKeys?;
+    string keyDeserializer?;
+    string valueDeserializer?;
+    map<string> topicValueDeserializers?;
     decimal defaultApiTimeout?;
 
     boolean autoCommit = true;
@@ -167,6 +222,8 @@ public type ConsumerConfiguration record {|
     boolean decoupleProcessing = false;
     boolean validation = true;
     boolean autoSeekOnValidationFailure = true;
+    boolean concurrentPartitionDispatch = false;
+    boolean keyOrderedDispatch = false;
 
     SecureSocket secureSocket?;
     AuthenticationConfiguration auth?;
@@ -244,6 +301,20 @@ public type BytesProducerRecord record {|
     map<byte[]|byte[][]> headers?;
 |};
 
+# Represents the metadata of a produced record acknowledged by the Kafka server.
+#
+# + topic - Topic to which the record was appended
+# + partition - Partition to which the record was appended
+# + offset - Offset of the record in the partition, which is not known when the producer does not wait for the
+#            acknowledgement of the server
+# + timestamp - Timestamp of the record, in milliseconds since epoch
+public type RecordMetadata record {|
+    string topic;
+    int partition;
+    int offset?;
+    int timestamp?;
+|};
+
 // Producer-related records
 # Represents the `kafka:Producer` configuration.
 #
@@ -276,6 +347,15 @@ public type BytesProducerRecord record {|
 # + metadataMaxAge - Maximum time (in seconds) to force a refresh of metadata
 # + metricsSampleWindow - Time (in seconds) window for a metrics sample to compute over
 # + metricsNumSamples - Number of samples maintained to compute the metrics
+# + clientMetrics - Names of the Kafka client metrics reported as Ballerina metrics when the metrics are enabled. A
+#                   default set of the client metrics is reported when this is not set
+# + clientMetricsSampleInterval - Interval (in seconds) at which the reported Kafka client metrics are sampled
+# + keySerializer - Name of the serializer of the record keys. A built-in serializer such as `kafka:SER_JSON`, or a
+#                   native serializer registered with the Kafka module. A `byte[]` is sent as it is, strings and XML
+#                   are sent as UTF-8 and the other values as JSON when this is not set
+# + valueSerializer - Name of the serializer of the record values. The values are serialized the same way as the keys
+#                     when this is not set
+# + topicValueSerializers - Names of the serializers of the record values of specific topics, keyed by the topic
 # + maxInFlightRequestsPerConnection - Maximum number of unacknowledged requests on a single connection
 # + connectionsMaxIdleTime - Close the idle connections after this number of seconds
 # + transactionTimeout - Timeout (in seconds) for transaction status update from the producer
@@ -312,6 +392,11 @@ public type ProducerConfiguration record {|
     decimal metadataMaxAge?;
     decimal metricsSampleWindow?;
     int metricsNumSamples?;
+    string[] clientMetrics?;
+    decimal clientMetricsSampleInterval = 10;
+    string keySerializer?;
+    string valueSerializer?;
+    map<string> topicValueSerializers?;
     int maxInFlightRequestsPerConnection?;
     decimal connectionsMaxIdleTime?;
     decimal transactionTimeout?;
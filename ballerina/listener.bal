@@ -94,9 +94,20 @@ public isolated class Listener {
     # + 'service - The service to be attached
     # + name - Name of the service
     # + return - A `kafka:Error` if an error is encountered while attaching the service or else `()`
-    public isolated function attach(Service 'service, string[]|string? name = ()) returns error? =
+    public isolated function attach(Service 'service, string[]|string? name = ()) returns error? {
+        boolean[] consumerRecordParameters = from typedesc? parameterType in
+            self.getConsumerRecordParameterTypes('service) select isConsumerRecordType(parameterType);
+        return self.register('service, name, consumerRecordParameters);
+    }
+
+    private isolated function getConsumerRecordParameterTypes(Service 'service) returns (typedesc?)[] =
+    @java:Method {
+        'class: "io.ballerina.stdlib.kafka.service.Register"
+    } external;
+
+    private isolated function register(Service 'service, string[]|string? name, boolean[] consumerRecordParameters)
+        returns error? =
     @java:Method {
-        name: "register",
         'class: "io.ballerina.stdlib.kafka.service.Register"
     } external;
 
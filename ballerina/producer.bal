@@ -93,53 +93,37 @@ public client isolated class Producer {
     # + producerRecord - Record to be produced
     # + return - A `kafka:Error` if send action fails to send data or else '()'
     isolated remote function send(AnydataProducerRecord producerRecord) returns Error? {
-        // Only producing byte[] values is handled at the moment
-        byte[] value;
-        anydata anydataValue = producerRecord.value;
-        byte[]? key = ();
-        anydata anydataKey = producerRecord?.key;
-        if anydataValue is byte[] {
-            value = anydataValue;
-        } else if anydataValue is xml {
-            value = anydataValue.toString().toBytes();
-        } else if anydataValue is string {
-            value = anydataValue.toBytes();
-        } else {
-            value = anydataValue.toJsonString().toBytes();
-        }
-        if anydataKey is byte[] {
-            key = anydataKey;
-        } else if anydataKey is xml {
-            key = anydataKey.toString().toBytes();
-        } else if anydataKey is string {
-            key = anydataKey.toBytes();
-        } else if anydataKey !is () {
-            key = anydataKey.toJsonString().toBytes();
-        }
-        return sendByteArrayValues(self, value, producerRecord.topic, self.getHeaderValueAsByteArrayList(producerRecord?.headers), key,
-        producerRecord?.partition, producerRecord?.timestamp, self.keySerializerType);
+        return sendAnydataRecord(self, producerRecord);
     }
 
-    private isolated function getHeaderValueAsByteArrayList(map<byte[]|byte[][]|string|string[]>? headers) returns [string, byte[]][] {
-        [string, byte[]][] bytesHeaderList = [];
-        if headers is map<byte[]|byte[][]|string|string[]> {
-            foreach string key in headers.keys() {
-                byte[]|byte[][]|string|string[] values = headers.get(key);
-                if values is byte[] {
-                    bytesHeaderList.push([key, values]);
-                } else if values is byte[][] {
-                    foreach byte[] headerValue in values {
-                        bytesHeaderList.push([key, headerValue]);
-                    }
-                } else if values is string {
-                    bytesHeaderList.push([key, values.toBytes()]);
-                } else if values is string[] {
-                    foreach string headerValue in values {
-                        bytesHeaderList.push([key, headerValue.toBytes()]);
-                    }
-                }
-            }
-        }
-        return bytesHeaderList;
+    # Produces records to the Kafka server without waiting for them to be acknowledged. The record is batched with the
+    # other records sent to the same partition, and the returned `kafka:SendHandle` completes once the record is
+    # acknowledged by the Kafka server.
+    # ```ballerina
+    # kafka:SendHandle sendHandle = check producer->sendAsync({value: "Hello World".toBytes(), topic: "kafka-topic"});
+    # kafka:RecordMetadata metadata = check sendHandle.'wait();
+    # ```
+    #
+    # + producerRecord - Record to be produced
+    # + return - A `kafka:SendHandle` of the record or else a `kafka:Error` if the record cannot be sent
+    isolated remote function sendAsync(AnydataProducerRecord producerRecord) returns SendHandle|Error {
+        return sendAnydataRecordAsync(self, producerRecord);
+    }
+
+    # Produces a batch of records to the Kafka server, and waits until each of them is acknowledged or fails to be
+    # sent. The records are converted and handed to the Kafka producer at once, without waiting for the earlier
+    # records to be acknowledged.
+    # ```ballerina
+    # (kafka:RecordMetadata|kafka:Error)[] results = producer->sendAll([
+    #     {value: "Hello World".toBytes(), topic: "kafka-topic"},
+    #     {value: "Hello Ballerina".toBytes(), topic: "kafka-topic"}
+    # ]);
+    # ```
+    #
+    # + producerRecords - Records to be produced
+    # + return - The `kafka:RecordMetadata` of each record or else a `kafka:Error` if the record failed to be sent,
+    #            in the order of the records
+    isolated remote function sendAll(AnydataProducerRecord[] producerRecords) returns (RecordMetadata|Error)[] {
+        return sendProducerRecords(self, producerRecords);
     }
 }
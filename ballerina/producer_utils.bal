@@ -41,3 +41,23 @@ isolated function sendByteArrayValuesByteArrayKeys(Producer producer, byte[] val
 @java:Method {
     'class: "io.ballerina.stdlib.kafka.nativeimpl.producer.SendByteArrayValues"
 } external;
+
+//Send a record with anydata key and value, which are converted to byte[] natively
+isolated function sendAnydataRecord(Producer producer, AnydataProducerRecord producerRecord) returns Error? =
+@java:Method {
+    'class: "io.ballerina.stdlib.kafka.nativeimpl.producer.SendProducerRecords"
+} external;
+
+isolated function sendAnydataRecordAsync(Producer producer, AnydataProducerRecord producerRecord)
+    returns SendHandle|Error =
+@java:Method {
+    'class: "io.ballerina.stdlib.kafka.nativeimpl.producer.SendProducerRecords"
+} external;
+
+//Send a batch of records with anydata keys and values, which are converted to byte[] natively
+isolated function sendProducerRecords(Producer producer, AnydataProducerRecord[] producerRecords)
+    returns (RecordMetadata|Error)[] =
+@java:Method {
+    name: "sendAll",
+    'class: "io.ballerina.stdlib.kafka.nativeimpl.producer.SendProducerRecords"
+} external;
@@ -0,0 +1,65 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents a function called with the metadata of a record sent asynchronously by a `kafka:Producer`, once the
+# record is acknowledged by the Kafka server, or with the error if the record failed to be sent.
+public type SendCallback isolated function (RecordMetadata|Error result);
+
+# Represents a record sent asynchronously by a `kafka:Producer`, which completes once the record is acknowledged by
+# the Kafka server or fails to be sent.
+public isolated class SendHandle {
+
+    # Waits until the record is acknowledged by the Kafka server or fails to be sent.
+    # ```ballerina
+    # kafka:RecordMetadata metadata = check sendHandle.'wait();
+    # ```
+    #
+    # + return - The `kafka:RecordMetadata` of the record or else a `kafka:Error` if the record failed to be sent
+    public isolated function 'wait() returns RecordMetadata|Error =
+    @java:Method {
+        name: "waitForResult",
+        'class: "io.ballerina.stdlib.kafka.nativeimpl.producer.SendHandleActions"
+    } external;
+
+    # Checks whether the record is acknowledged by the Kafka server or failed to be sent.
+    # ```ballerina
+    # boolean done = sendHandle.isDone();
+    # ```
+    #
+    # + return - `true` if the record is acknowledged or failed to be sent, `false` otherwise
+    public isolated function isDone() returns boolean =
+    @java:Method {
+        'class: "io.ballerina.stdlib.kafka.nativeimpl.producer.SendHandleActions"
+    } external;
+
+    # Registers a function to be called once the record is acknowledged by the Kafka server or fails to be sent. The
+    # function is called right away if the record is already acknowledged or failed to be sent.
+    # ```ballerina
+    # sendHandle.onComplete(isolated function (kafka:RecordMetadata|kafka:Error result) {
+    #     if result is kafka:Error {
+    #         log:printError("Failed to send the record", result);
+    #     }
+    # });
+    # ```
+    #
+    # + callback - The function to be called with the `kafka:RecordMetadata` of the record or the `kafka:Error`
+    public isolated function onComplete(SendCallback callback) =
+    @java:Method {
+        'class: "io.ballerina.stdlib.kafka.nativeimpl.producer.SendHandleActions"
+    } external;
+}
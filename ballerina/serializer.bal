@@ -14,16 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
-//# Represents a Kafka serializer object. This object can be used to create custom serializers for the Ballerina Kafka
-//# producers.
-//public type Serializer object {
-//    # Closes the serialization process. This function runs after the serialization process is done.
-//    public isolated function close();
-//
-//    # Serializes the provided data. Implement this to serialize any data type and return the `byte[]` value to use in
-//    # the Kafka producer.
-//    #
-//    # + data - Data, which should be serialized
-//    # + return - Serialized `byte[]` value
-//    public isolated function serialize(any data) returns byte[];
-//};
+// Custom serializers of the Kafka producers are implemented natively, as services of the
+// `io.ballerina.stdlib.kafka.api.KafkaSerializer` Java interface discovered from the classpath of the program. The
+// serializers are selected by name with the `keySerializer`, `valueSerializer` and `topicValueSerializers` producer
+// configurations, along with the built-in `kafka:SER_BYTE_ARRAY`, `kafka:SER_STRING`, `kafka:SER_JSON` and
+// `kafka:SER_XML` serializers.
@@ -79,6 +79,8 @@ string receivedNumberMaxValueConstraintError = "";
 string receivedNumberMinValueConstraintError = "";
 int receivedValidRecordCount = 0;
 int receivedSeekedValidRecordCount = 0;
+string[] receivedMidBatchValidRecords = [];
+int[] receivedMidBatchErrorOffsets = [];
 
 @test:Config {enable: true}
 function stringMinLengthConstraintConsumerRecordTest() returns error? {
@@ -521,3 +523,50 @@ function invalidRecordConstraintWithSeekPayloadTest() returns error? {
     check constraintListener.gracefulStop();
     test:assertEquals(receivedSeekedValidRecordCount, 3);
 }
+
+@test:Config {enable: true}
+function constraintErrorInMidBatchListenerTest() returns error? {
+    string topic = "constraint-error-in-mid-batch-listener-test-topic";
+    kafkaTopics.push(topic);
+    check sendMessage("This is the first valid message", topic);
+    check sendMessage("This is the second valid message", topic);
+    check sendMessage("Invalid", topic);
+    check sendMessage("This is the third valid message", topic);
+
+    Service midBatchService =
+    service object {
+        remote function onConsumerRecord(StringConstraintConsumerRecord[] records) returns error? {
+            foreach StringConstraintConsumerRecord 'record in records {
+                receivedMidBatchValidRecords.push('record.value);
+            }
+        }
+
+        remote function onError(Error e, Caller caller) returns error? {
+            if e is PayloadValidationError {
+                receivedMidBatchErrorOffsets.push(e.detail().offset);
+                check caller->seek({
+                    partition: e.detail().partition,
+                    offset: e.detail().offset + 1
+                });
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: [topic],
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "constraint-listener-group-17",
+        clientId: "constraint-listener-17",
+        autoSeekOnValidationFailure: false
+    };
+    Listener constraintListener = check new (DEFAULT_URL, consumerConfiguration);
+    check constraintListener.attach(midBatchService);
+    check constraintListener.'start();
+    runtime:sleep(5);
+    check constraintListener.gracefulStop();
+    // The records before the violation are dispatched, and the consumer is sought back to the invalid record, which
+    // fails the next poll
+    test:assertEquals(receivedMidBatchValidRecords, ["This is the first valid message",
+        "This is the second valid message", "This is the third valid message"]);
+    test:assertEquals(receivedMidBatchErrorOffsets, [2]);
+}
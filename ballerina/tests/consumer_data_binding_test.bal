@@ -615,3 +615,69 @@ function intCastingErrorPollPayloadWithAutoSeekTest() returns error? {
     test:assertEquals(values[1], 13);
     check consumer->close();
 }
+
+type JsonBindingAddress record {|
+    string street;
+    int number;
+|};
+
+type JsonBindingPerson record {|
+    string name;
+    int age;
+    decimal height;
+    float weight;
+    JsonBindingAddress address;
+    string[] tags;
+|};
+
+@test:Config {enable: true}
+function jsonPayloadBindingParityConsumerTest() returns error? {
+    string topic = "json-payload-binding-parity-consumer-test-topic";
+    kafkaTopics.push(topic);
+    string[] payloads = [
+        // Nested records
+        string `{"name": "Anne", "age": 25, "height": 1.65, "weight": 55.5, "address": {"street": "Palm Grove", "number": 10}, "tags": ["a", "b"]}`,
+        // Escapes and unicode
+        string `{"name": "A\"n\\n\/e\n\té😀", "age": 25, "height": 1, "weight": 1, "address": {"street": "Palm", "number": 1}, "tags": ["\b\f\r"]}`,
+        // Number edge cases
+        string `{"name": "Anne", "age": -0, "height": 1.5e2, "weight": -0.0e-1, "address": {"street": "", "number": 0}, "tags": []}`,
+        string `{"name": "Anne", "age": 9223372036854775807, "height": 0.1E+3, "weight": 1E-3, "address": {"street": "", "number": -9223372036854775808}, "tags": []}`,
+        string `{"name": "Anne", "age": 01, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "Anne", "age": +1, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "Anne", "age": 1, "height": 1., "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "Anne", "age": 1, "height": .5, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "Anne", "age": 1, "height": 1, "weight": 1e, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "Anne", "age": -, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "Anne", "age": 9223372036854775808, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        // Malformed payloads
+        string `{"name": "Anne", "age": 25, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []`,
+        string `{"name": "Anne", "age": 25, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []} {}`,
+        string `{"name": "A\x", "age": 25, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "\u00g1", "age": 25, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "Anne, "age": 25, "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`,
+        string `{"name": "Anne", "age": 25, "height": 1, "weight": 1, "address": {"street": ""}, "tags": []}`,
+        string `{"name": "Anne", "age": "25", "height": 1, "weight": 1, "address": {"street": "", "number": 1}, "tags": []}`
+    ];
+    JsonBindingPerson[] expectedValues = [];
+    foreach string payload in payloads {
+        check sendMessage(payload.toBytes(), topic);
+        JsonBindingPerson|error expectedValue = payload.fromJsonStringWithType();
+        if expectedValue is JsonBindingPerson {
+            expectedValues.push(expectedValue);
+        }
+    }
+    test:assertEquals(expectedValues.length(), 4);
+
+    ConsumerConfiguration consumerConfigs = {
+        topics: [topic],
+        groupId: "data-binding-consumer-group-13",
+        clientId: "data-binding-consumer-id-13",
+        offsetReset: OFFSET_RESET_EARLIEST
+    };
+    Consumer consumer = check new (DEFAULT_URL, consumerConfigs);
+    // Payloads which fail to be bound are skipped, hence only the payloads accepted by `fromJsonStringWithType` are
+    // received
+    JsonBindingPerson[] values = check consumer->pollPayload(5);
+    test:assertEquals(values, expectedValues);
+    check consumer->close();
+}
@@ -237,3 +237,24 @@ function consumerReadAllSupportedTypesHeadersTest() returns error? {
     test:assertEquals(receivedHeaders, {"key1": ["header1".toBytes(), "header2".toBytes()], "key2": "header3".toBytes()});
     check consumer->close();
 }
+
+@test:Config {enable: true}
+function consumerReadSelectedHeadersTest() returns error? {
+    string topic = "consumer-read-selected-headers-test-topic";
+    kafkaTopics.push(topic);
+    map<byte[]|byte[][]|string|string[]>? headers = {"key1": ["header1".toBytes(), "header2".toBytes()], "key2": "header3".toBytes(), "key3": "header4"};
+    check sendMessage(TEST_MESSAGE.toBytes(), topic, (), headers);
+    ConsumerConfiguration consumerConfiguration = {
+        topics: [topic],
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "consumer-read-selected-headers-test-group",
+        clientId: "test-consumer-61",
+        headerKeys: ["key1", "key3", "key4"]
+    };
+    Consumer consumer = check new (DEFAULT_URL, consumerConfiguration);
+    StringArrayHeaderConsumerRecord[] consumerRecords = check consumer->poll(5);
+    test:assertEquals(consumerRecords.length(), 1);
+    map<string[]> receivedHeaders = consumerRecords[0].headers;
+    test:assertEquals(receivedHeaders, {"key1": ["header1", "header2"], "key3": ["header4"]});
+    check consumer->close();
+}
@@ -31,6 +31,18 @@ string detachMsg2 = "";
 string incorrectEndpointMsg = "";
 string receivedTimeoutConfigValue = "";
 map<byte[]|byte[][]> receivedHeaders = {};
+string[] receivedDecoupledMessages = [];
+string receivedContinuousPollingMessage = "";
+int[] receivedMicroBatchSizes = [];
+string[] receivedBackPressuredMessages = [];
+string[] backPressureErrors = [];
+isolated map<string[]> partitionDispatchedMessages = {};
+isolated map<string[]> keyOrderedMessages = {};
+isolated string[] keyOrderedRetriedMessages = [];
+isolated boolean keyOrderedRecordFailed = false;
+isolated string[] keyOrderedSeekedBackMessages = [];
+isolated string[] keyOrderedReturnedErrorMessages = [];
+isolated boolean keyOrderedErrorReturned = false;
 
 int receivedMsgCount = 0;
 
@@ -1017,3 +1029,523 @@ function listenerWithConsumerHeadersTest() returns error? {
     check headersListener.gracefulStop();
     test:assertEquals(receivedHeaders, headers);
 }
+
+@test:Config {enable: true}
+function listenerWithDecoupledProcessingTest() returns error? {
+    string topic = "listener-decoupled-processing-test-topic";
+    kafkaTopics.push(topic);
+    foreach int i in 0 ..< 10 {
+        check sendMessage(TEST_MESSAGE + i.toString(), topic);
+    }
+
+    Service decoupledService =
+    service object {
+        remote function onConsumerRecord(string[] records) returns error? {
+            foreach string message in records {
+                receivedDecoupledMessages.push(message);
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-30",
+        clientId: "test-listener-30",
+        maxPollRecords: 2,
+        decoupleProcessing: true,
+        maxInFlightBatches: 3
+    };
+    Listener decoupledListener = check new (DEFAULT_URL, consumerConfiguration);
+    check decoupledListener.attach(decoupledService);
+    check decoupledListener.'start();
+    runtime:sleep(5);
+    check decoupledListener.gracefulStop();
+    string[] expectedMessages = [];
+    foreach int i in 0 ..< 10 {
+        expectedMessages.push(TEST_MESSAGE + i.toString());
+    }
+    test:assertEquals(receivedDecoupledMessages, expectedMessages);
+}
+
+@test:Config {enable: true}
+function listenerWithContinuousPollingTest() returns error? {
+    string topic = "listener-continuous-polling-test-topic";
+    kafkaTopics.push(topic);
+    check sendMessage(TEST_MESSAGE, topic);
+
+    Service continuousPollingService =
+    service object {
+        remote function onConsumerRecord(string[] records) returns error? {
+            foreach int i in 0 ... records.length() - 1 {
+                receivedContinuousPollingMessage = records[i];
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-31",
+        clientId: "test-listener-31",
+        pollingMode: POLLING_MODE_CONTINUOUS,
+        pollingTimeout: 1
+    };
+    Listener continuousPollingListener = check new (DEFAULT_URL, consumerConfiguration);
+    check continuousPollingListener.attach(continuousPollingService);
+    check continuousPollingListener.'start();
+    runtime:sleep(3);
+    check continuousPollingListener.gracefulStop();
+    test:assertEquals(receivedContinuousPollingMessage, TEST_MESSAGE);
+}
+
+@test:Config {enable: true}
+function listenerWithMicroBatchingTest() returns error? {
+    string topic = "listener-micro-batching-test-topic";
+    kafkaTopics.push(topic);
+    foreach int i in 0 ..< 10 {
+        check sendMessage(TEST_MESSAGE + i.toString(), topic);
+    }
+
+    Service microBatchingService =
+    service object {
+        remote function onConsumerRecord(string[] records) returns error? {
+            receivedMicroBatchSizes.push(records.length());
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-32",
+        clientId: "test-listener-32",
+        maxPollRecords: 2,
+        minBatchRecords: 10,
+        maxBatchWait: 10
+    };
+    Listener microBatchingListener = check new (DEFAULT_URL, consumerConfiguration);
+    check microBatchingListener.attach(microBatchingService);
+    check microBatchingListener.'start();
+    runtime:sleep(5);
+    check microBatchingListener.gracefulStop();
+    test:assertEquals(receivedMicroBatchSizes, [10]);
+}
+
+@test:Config {enable: true}
+function listenerWithKeyOrderedDispatchTest() returns error? {
+    string topic = "listener-key-ordered-dispatch-test-topic";
+    kafkaTopics.push(topic);
+    string[] keys = ["key-a", "key-b", "key-c"];
+    foreach int i in 0 ..< 12 {
+        string key = keys[i % keys.length()];
+        check sendMessage(key + "-" + (i / keys.length()).toString(), topic, key);
+    }
+
+    Service keyOrderedService =
+    isolated service object {
+        isolated remote function onConsumerRecord(StringConsumerRecord[] records) returns error? {
+            foreach StringConsumerRecord 'record in records {
+                string key = 'record?.key ?: "";
+                lock {
+                    string[] messages = keyOrderedMessages[key] ?: [];
+                    messages.push('record.value);
+                    keyOrderedMessages[key] = messages;
+                }
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-33",
+        clientId: "test-listener-33",
+        keyOrderedDispatch: true
+    };
+    Listener keyOrderedListener = check new (DEFAULT_URL, consumerConfiguration);
+    check keyOrderedListener.attach(keyOrderedService);
+    check keyOrderedListener.'start();
+    runtime:sleep(3);
+    check keyOrderedListener.gracefulStop();
+
+    map<string[]> messages;
+    lock {
+        messages = keyOrderedMessages.clone();
+    }
+    test:assertEquals(messages.length(), keys.length());
+    foreach string key in keys {
+        test:assertEquals(messages[key], [key + "-0", key + "-1", key + "-2", key + "-3"]);
+    }
+}
+
+@test:Config {enable: true}
+function listenerWithKeyOrderedDispatchFailureTest() returns error? {
+    string topic = "listener-key-ordered-dispatch-failure-test-topic";
+    kafkaTopics.push(topic);
+    check sendMessage("key-a-0", topic, "key-a");
+    check sendMessage("key-b-0", topic, "key-b");
+    check sendMessage("key-a-1", topic, "key-a");
+    check sendMessage("key-a-2", topic, "key-a");
+
+    Service keyOrderedService =
+    isolated service object {
+        isolated remote function onConsumerRecord(StringConsumerRecord[] records) returns error? {
+            foreach StringConsumerRecord 'record in records {
+                if 'record?.key == "key-b" {
+                    boolean failed;
+                    lock {
+                        failed = keyOrderedRecordFailed;
+                        keyOrderedRecordFailed = true;
+                    }
+                    if !failed {
+                        panic error("Failed to process the record of key-b");
+                    }
+                }
+                lock {
+                    keyOrderedRetriedMessages.push('record.value);
+                }
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-34",
+        clientId: "test-listener-34",
+        keyOrderedDispatch: true
+    };
+    Listener keyOrderedListener = check new (DEFAULT_URL, consumerConfiguration);
+    check keyOrderedListener.attach(keyOrderedService);
+    check keyOrderedListener.'start();
+    runtime:sleep(5);
+    check keyOrderedListener.gracefulStop();
+
+    string[] messages;
+    lock {
+        messages = keyOrderedRetriedMessages.clone();
+    }
+    // The records of key-a completed before the failed record are received again once the partition is sought back
+    // to the failed record
+    test:assertEquals(messages.filter(message => message == "key-b-0").length(), 1);
+    test:assertEquals(messages.filter(message => message == "key-a-0").length(), 1);
+    test:assertTrue(messages.filter(message => message == "key-a-2").length() >= 1);
+    Consumer consumer = check new (DEFAULT_URL, {groupId: "test-listener-group-34", clientId: "test-consumer-65"});
+    PartitionOffset? committedOffset = check consumer->getCommittedOffset({topic, partition: 0});
+    test:assertTrue(committedOffset is PartitionOffset);
+    if committedOffset is PartitionOffset {
+        test:assertEquals(committedOffset.offset, 4);
+    }
+    check consumer->close();
+}
+
+@test:Config {enable: true}
+function listenerWithKeyOrderedDispatchSeekBackTest() returns error? {
+    string topic = "listener-key-ordered-dispatch-seek-back-test-topic";
+    kafkaTopics.push(topic);
+    check sendMessage("key-a-0", topic, "key-a");
+    check sendMessage("key-a-1", topic, "key-a");
+    check sendMessage("key-b-0", topic, "key-b");
+    check sendMessage("key-a-2", topic, "key-a");
+    check sendMessage("key-c-0", topic, "key-c");
+
+    Service keyOrderedService =
+    isolated service object {
+        isolated remote function onConsumerRecord(StringConsumerRecord[] records) returns error? {
+            foreach StringConsumerRecord 'record in records {
+                if 'record?.key == "key-b" {
+                    panic error("Failed to process the record of key-b");
+                }
+                lock {
+                    keyOrderedSeekedBackMessages.push('record.value);
+                }
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-35",
+        clientId: "test-listener-35",
+        keyOrderedDispatch: true
+    };
+    Listener keyOrderedListener = check new (DEFAULT_URL, consumerConfiguration);
+    check keyOrderedListener.attach(keyOrderedService);
+    check keyOrderedListener.'start();
+    runtime:sleep(5);
+    check keyOrderedListener.gracefulStop();
+
+    string[] messages;
+    lock {
+        messages = keyOrderedSeekedBackMessages.clone();
+    }
+    // The records before the failed record are processed only once, while the ones completed after it are received
+    // again on each seek back to the failed record
+    test:assertEquals(messages.filter(message => message == "key-a-0").length(), 1);
+    test:assertEquals(messages.filter(message => message == "key-a-1").length(), 1);
+    test:assertTrue(messages.filter(message => message == "key-c-0").length() > 1);
+    test:assertTrue(messages.indexOf("key-b-0") is ());
+    Consumer consumer = check new (DEFAULT_URL, {groupId: "test-listener-group-35", clientId: "test-consumer-66"});
+    PartitionOffset? committedOffset = check consumer->getCommittedOffset({topic, partition: 0});
+    test:assertTrue(committedOffset is PartitionOffset);
+    if committedOffset is PartitionOffset {
+        test:assertEquals(committedOffset.offset, 2);
+    }
+    check consumer->close();
+}
+
+@test:Config {enable: true}
+function listenerWithSlowServiceBackPressureTest() returns error? {
+    string topic = "listener-slow-service-back-pressure-test-topic";
+    kafkaTopics.push(topic);
+    foreach int i in 0 ..< 3 {
+        check sendMessage(TEST_MESSAGE + i.toString(), topic);
+    }
+
+    Service slowService =
+    service object {
+        remote function onConsumerRecord(string[] records) returns error? {
+            foreach string 'record in records {
+                if receivedBackPressuredMessages.length() == 0 {
+                    // Processing the first record takes longer than the maxPollInterval of the consumer
+                    runtime:sleep(5);
+                }
+                receivedBackPressuredMessages.push('record);
+            }
+        }
+
+        remote function onError(Error e) {
+            backPressureErrors.push(e.message());
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-36",
+        clientId: "test-listener-36",
+        maxPollRecords: 1,
+        maxPollInterval: 3000,
+        backPressureTimeout: 0.5
+    };
+    Listener slowServiceListener = check new (DEFAULT_URL, consumerConfiguration);
+    check slowServiceListener.attach(slowService);
+    check slowServiceListener.'start();
+    runtime:sleep(10);
+    check slowServiceListener.gracefulStop();
+
+    test:assertEquals(receivedBackPressuredMessages, [TEST_MESSAGE + "0", TEST_MESSAGE + "1", TEST_MESSAGE + "2"]);
+    test:assertEquals(backPressureErrors, []);
+    Consumer consumer = check new (DEFAULT_URL, {groupId: "test-listener-group-36", clientId: "test-consumer-67"});
+    PartitionOffset? committedOffset = check consumer->getCommittedOffset({topic, partition: 0});
+    test:assertTrue(committedOffset is PartitionOffset);
+    if committedOffset is PartitionOffset {
+        test:assertEquals(committedOffset.offset, 3);
+    }
+    check consumer->close();
+}
+
+@test:Config {enable: true}
+function listenerWithConcurrentPartitionDispatchTest() returns error? {
+    // Each of the topics has a single partition, hence the records of a poll belong to two partitions
+    string[] topics = ["listener-partition-dispatch-test-topic-1", "listener-partition-dispatch-test-topic-2"];
+    foreach string topic in topics {
+        kafkaTopics.push(topic);
+        foreach int i in 0 ..< 5 {
+            check sendMessage(topic + "-" + i.toString(), topic);
+        }
+    }
+
+    Service partitionDispatchService =
+    isolated service object {
+        isolated remote function onConsumerRecord(StringConsumerRecord[] records) returns error? {
+            foreach StringConsumerRecord 'record in records {
+                string topic = 'record.offset.partition.topic;
+                lock {
+                    string[] messages = partitionDispatchedMessages[topic] ?: [];
+                    messages.push('record.value);
+                    partitionDispatchedMessages[topic] = messages;
+                }
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-37",
+        clientId: "test-listener-37",
+        concurrentPartitionDispatch: true
+    };
+    Listener partitionDispatchListener = check new (DEFAULT_URL, consumerConfiguration);
+    check partitionDispatchListener.attach(partitionDispatchService);
+    check partitionDispatchListener.'start();
+    runtime:sleep(3);
+    check partitionDispatchListener.gracefulStop();
+
+    map<string[]> messages;
+    lock {
+        messages = partitionDispatchedMessages.clone();
+    }
+    foreach string topic in topics {
+        test:assertEquals(messages[topic], [topic + "-0", topic + "-1", topic + "-2", topic + "-3", topic + "-4"]);
+    }
+    Consumer consumer = check new (DEFAULT_URL, {groupId: "test-listener-group-37", clientId: "test-consumer-68"});
+    foreach string topic in topics {
+        PartitionOffset? committedOffset = check consumer->getCommittedOffset({topic, partition: 0});
+        test:assertTrue(committedOffset is PartitionOffset);
+        if committedOffset is PartitionOffset {
+            test:assertEquals(committedOffset.offset, 5);
+        }
+    }
+    check consumer->close();
+}
+
+@test:Config {enable: true}
+function listenerWithOffsetCommitPolicyTest() returns error? {
+    string topic = "listener-offset-commit-policy-test-topic";
+    kafkaTopics.push(topic);
+    foreach int i in 0 ..< 9 {
+        check sendMessage(TEST_MESSAGE + i.toString(), topic);
+    }
+
+    Service commitPolicyService =
+    service object {
+        remote function onConsumerRecord(string[] records) returns error? {
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-38",
+        clientId: "test-listener-38",
+        maxPollRecords: 2,
+        offsetCommitInterval: 60,
+        maxUncommittedRecords: 4
+    };
+    Listener commitPolicyListener = check new (DEFAULT_URL, consumerConfiguration);
+    check commitPolicyListener.attach(commitPolicyService);
+    check commitPolicyListener.'start();
+    runtime:sleep(5);
+
+    // The offsets are committed once 4 records are processed since the first batch, while the offsets of the
+    // remaining records are held back until the commit interval is elapsed
+    Consumer consumer = check new (DEFAULT_URL, {groupId: "test-listener-group-38", clientId: "test-consumer-69"});
+    PartitionOffset? committedOffset = check consumer->getCommittedOffset({topic, partition: 0});
+    test:assertTrue(committedOffset is PartitionOffset);
+    if committedOffset is PartitionOffset {
+        test:assertEquals(committedOffset.offset, 6);
+    }
+
+    // Pending offsets are committed when the listener is stopped
+    check commitPolicyListener.gracefulStop();
+    committedOffset = check consumer->getCommittedOffset({topic, partition: 0});
+    test:assertTrue(committedOffset is PartitionOffset);
+    if committedOffset is PartitionOffset {
+        test:assertEquals(committedOffset.offset, 9);
+    }
+    check consumer->close();
+}
+
+@test:Config {enable: true}
+function listenerConcurrentDispatchWithNonIsolatedServiceTest() returns error? {
+    Service nonIsolatedService =
+    service object {
+        remote function onConsumerRecord(StringConsumerRecord[] records) returns error? {
+        }
+    };
+    string expectedErrorMsg = "An isolated service with an isolated onConsumerRecord remote function is required " +
+        "to dispatch the records concurrently";
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: "listener-non-isolated-dispatch-test-topic",
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-39",
+        clientId: "test-listener-39",
+        concurrentPartitionDispatch: true
+    };
+    Listener partitionDispatchListener = check new (DEFAULT_URL, consumerConfiguration);
+    error? result = partitionDispatchListener.attach(nonIsolatedService);
+    if result is Error {
+        test:assertEquals(result.message(), expectedErrorMsg);
+    } else {
+        test:assertFail(msg = "Expected an error");
+    }
+
+    consumerConfiguration = {
+        topics: "listener-non-isolated-dispatch-test-topic",
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-40",
+        clientId: "test-listener-40",
+        keyOrderedDispatch: true
+    };
+    Listener keyOrderedListener = check new (DEFAULT_URL, consumerConfiguration);
+    result = keyOrderedListener.attach(nonIsolatedService);
+    if result is Error {
+        test:assertEquals(result.message(), expectedErrorMsg);
+    } else {
+        test:assertFail(msg = "Expected an error");
+    }
+}
+
+@test:Config {enable: true}
+function listenerWithKeyOrderedDispatchReturnedErrorTest() returns error? {
+    string topic = "listener-key-ordered-dispatch-returned-error-test-topic";
+    kafkaTopics.push(topic);
+    check sendMessage("key-a-0", topic, "key-a");
+    check sendMessage("key-b-0", topic, "key-b");
+    check sendMessage("key-a-1", topic, "key-a");
+    check sendMessage("key-a-2", topic, "key-a");
+
+    Service keyOrderedService =
+    isolated service object {
+        isolated remote function onConsumerRecord(StringConsumerRecord[] records) returns error? {
+            foreach StringConsumerRecord 'record in records {
+                if 'record?.key == "key-b" {
+                    boolean errorReturned;
+                    lock {
+                        errorReturned = keyOrderedErrorReturned;
+                        keyOrderedErrorReturned = true;
+                    }
+                    if !errorReturned {
+                        return error("Failed to process the record of key-b");
+                    }
+                }
+                lock {
+                    keyOrderedReturnedErrorMessages.push('record.value);
+                }
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: topic,
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "test-listener-group-41",
+        clientId: "test-listener-41",
+        keyOrderedDispatch: true
+    };
+    Listener keyOrderedListener = check new (DEFAULT_URL, consumerConfiguration);
+    check keyOrderedListener.attach(keyOrderedService);
+    check keyOrderedListener.'start();
+    runtime:sleep(5);
+    check keyOrderedListener.gracefulStop();
+
+    string[] messages;
+    lock {
+        messages = keyOrderedReturnedErrorMessages.clone();
+    }
+    // The record for which the error is returned is consumed again, instead of being committed as processed
+    test:assertEquals(messages.filter(message => message == "key-b-0").length(), 1);
+    test:assertEquals(messages.filter(message => message == "key-a-0").length(), 1);
+    test:assertTrue(messages.filter(message => message == "key-a-2").length() >= 1);
+    Consumer consumer = check new (DEFAULT_URL, {groupId: "test-listener-group-41", clientId: "test-consumer-71"});
+    PartitionOffset? committedOffset = check consumer->getCommittedOffset({topic, partition: 0});
+    test:assertTrue(committedOffset is PartitionOffset);
+    if committedOffset is PartitionOffset {
+        test:assertEquals(committedOffset.offset, 4);
+    }
+    check consumer->close();
+}
@@ -85,6 +85,8 @@ string recordCastErrorConsumerRecordError = "";
 string recordCastErrorPayloadError = "";
 boolean receivedAutoSeekError = false;
 int receivedAutoSeekPayloadValue = 0;
+int[] receivedParallelBoundValues = [];
+int[] receivedParallelBoundOffsets = [];
 
 public type IntConsumerRecord record {|
     int key?;
@@ -1318,3 +1320,40 @@ function intCastingErrorPayloadWithAutoSeekTest() returns error? {
     test:assertEquals(receivedAutoSeekPayloadValue, 25);
     test:assertFalse(receivedAutoSeekError);
 }
+
+@test:Config {enable: true}
+function parallelBindingOrderListenerTest() returns error? {
+    string topic = "parallel-binding-order-listener-test-topic";
+    kafkaTopics.push(topic);
+    int[] sentValues = [];
+    foreach int i in 0 ..< 100 {
+        check sendMessage(i.toString().toBytes(), topic);
+        sentValues.push(i);
+    }
+
+    Service parallelBindingService =
+    service object {
+        remote function onConsumerRecord(IntConsumerRecord[] records) returns error? {
+            foreach IntConsumerRecord 'record in records {
+                receivedParallelBoundValues.push('record.value);
+                receivedParallelBoundOffsets.push('record.offset.offset);
+            }
+        }
+    };
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: [topic],
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "data-binding-listener-group-15",
+        clientId: "data-binding-listener-15",
+        parallelBindingThreshold: 10
+    };
+    Listener parallelBindingListener = check new (DEFAULT_URL, consumerConfiguration);
+    check parallelBindingListener.attach(parallelBindingService);
+    check parallelBindingListener.'start();
+    runtime:sleep(5);
+    check parallelBindingListener.gracefulStop();
+    // Records bound in parallel are dispatched in the polled order
+    test:assertEquals(receivedParallelBoundValues, sentValues);
+    test:assertEquals(receivedParallelBoundOffsets, sentValues);
+}
@@ -97,6 +97,139 @@ function producerSendStringTest() returns error? {
     check consumer->close();
 }
 
+@test:Config {enable: true}
+function producerSendAsyncTest() returns error? {
+    string topic = "send-async-test-topic";
+    kafkaTopics.push(topic);
+    Producer asyncProducer = check new (DEFAULT_URL, producerConfiguration);
+    SendHandle sendHandle = check asyncProducer->sendAsync({ topic: topic, value: TEST_MESSAGE.toBytes() });
+    RecordMetadata metadata = check sendHandle.'wait();
+    test:assertTrue(sendHandle.isDone());
+    test:assertEquals(metadata.topic, topic);
+    test:assertEquals(metadata.partition, 0);
+    test:assertEquals(metadata?.offset, 0);
+    sendHandle = check asyncProducer->sendAsync({ topic: topic, value: TEST_MESSAGE.toBytes(),
+        key: MESSAGE_KEY.toBytes() });
+    metadata = check sendHandle.'wait();
+    test:assertEquals(metadata?.offset, 1);
+    check asyncProducer->close();
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: [topic],
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "producer-send-async-test-group",
+        clientId: "test-consumer-62"
+    };
+    Consumer consumer = check new (DEFAULT_URL, consumerConfiguration);
+    BytesConsumerRecord[] consumerRecords = check consumer->poll(3);
+    test:assertEquals(consumerRecords.length(), 2);
+    string messageConverted = check 'string:fromBytes(consumerRecords[1].value);
+    test:assertEquals(messageConverted, TEST_MESSAGE);
+    check consumer->close();
+}
+
+@test:Config {enable: true}
+function producerSendOrderTest() returns error? {
+    string topic = "send-order-test-topic";
+    kafkaTopics.push(topic);
+    int recordCount = 20;
+    Producer orderedProducer = check new (DEFAULT_URL, producerConfiguration);
+    // The records are sent to a new topic without waiting, while the producer fetches the metadata of the topic
+    SendHandle[] sendHandles = [];
+    foreach int i in 0 ..< recordCount {
+        sendHandles.push(check orderedProducer->sendAsync({ topic: topic, value: i.toString().toBytes() }));
+    }
+    foreach int i in 0 ..< recordCount {
+        RecordMetadata metadata = check sendHandles[i].'wait();
+        test:assertEquals(metadata?.offset, i);
+    }
+    check orderedProducer->close();
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: [topic],
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "producer-send-order-test-group",
+        clientId: "test-consumer-70"
+    };
+    Consumer consumer = check new (DEFAULT_URL, consumerConfiguration);
+    string[] receivedValues = [];
+    int attempts = 0;
+    while receivedValues.length() < recordCount && attempts < 5 {
+        BytesConsumerRecord[] consumerRecords = check consumer->poll(3);
+        foreach BytesConsumerRecord consumerRecord in consumerRecords {
+            receivedValues.push(check 'string:fromBytes(consumerRecord.value));
+        }
+        attempts += 1;
+    }
+    string[] expectedValues = from int i in 0 ..< recordCount select i.toString();
+    test:assertEquals(receivedValues, expectedValues);
+    check consumer->close();
+}
+
+@test:Config {enable: true}
+function producerSendAllTest() returns error? {
+    string topic = "send-all-test-topic";
+    kafkaTopics.push(topic);
+    Producer batchProducer = check new (DEFAULT_URL, producerConfiguration);
+    (RecordMetadata|Error)[] results = batchProducer->sendAll([
+        { topic: topic, value: TEST_MESSAGE },
+        { topic: topic, value: TEST_MESSAGE.toBytes(), key: MESSAGE_KEY, headers: {"header": "value"} },
+        { topic: topic, value: {message: TEST_MESSAGE} }
+    ]);
+    check batchProducer->close();
+    test:assertEquals(results.length(), 3);
+    foreach int i in 0 ..< results.length() {
+        RecordMetadata metadata = check results[i];
+        test:assertEquals(metadata.topic, topic);
+        test:assertEquals(metadata?.offset, i);
+    }
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: [topic],
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "producer-send-all-test-group",
+        clientId: "test-consumer-63"
+    };
+    Consumer consumer = check new (DEFAULT_URL, consumerConfiguration);
+    BytesConsumerRecord[] consumerRecords = check consumer->poll(3);
+    test:assertEquals(consumerRecords.length(), 3);
+    test:assertEquals(check 'string:fromBytes(consumerRecords[0].value), TEST_MESSAGE);
+    test:assertEquals(consumerRecords[1]?.key, MESSAGE_KEY.toBytes());
+    test:assertEquals(consumerRecords[1].headers["header"], "value".toBytes());
+    json messageJson = check (check 'string:fromBytes(consumerRecords[2].value)).fromJsonString();
+    test:assertEquals(messageJson, {message: TEST_MESSAGE});
+    check consumer->close();
+}
+
+@test:Config {enable: true}
+function producerSerializerConfigTest() returns error? {
+    string topic = "serializer-config-test-topic";
+    kafkaTopics.push(topic);
+    Producer jsonProducer = check new (DEFAULT_URL, {...producerConfiguration, valueSerializer: SER_JSON});
+    check jsonProducer->send({topic: topic, value: TEST_MESSAGE});
+    check jsonProducer->send({topic: topic, value: {message: TEST_MESSAGE}});
+    check jsonProducer->close();
+
+    ConsumerConfiguration consumerConfiguration = {
+        topics: [topic],
+        offsetReset: OFFSET_RESET_EARLIEST,
+        groupId: "producer-serializer-config-test-group",
+        clientId: "test-consumer-64",
+        valueDeserializer: DES_JSON
+    };
+    Consumer consumer = check new (DEFAULT_URL, consumerConfiguration);
+    json[] payloads = check consumer->pollPayload(3);
+    test:assertEquals(payloads, [TEST_MESSAGE, {message: TEST_MESSAGE}]);
+    check consumer->close();
+
+    Producer|Error unknownSerializerProducer = new (DEFAULT_URL, {...producerConfiguration, valueSerializer: "UNKNOWN"});
+    if unknownSerializerProducer is Error {
+        test:assertEquals(unknownSerializerProducer.message(), "No serializer is registered with the name 'UNKNOWN'");
+    } else {
+        test:assertFail(msg = "Expected an error for the unknown serializer");
+    }
+}
+
 @test:Config {enable: true}
 function producerKeyTypeMismatchErrorTest() returns error? {
     string topic = "key-type-mismatch-error-test-topic";
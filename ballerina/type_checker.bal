@@ -14,21 +14,21 @@
 // specific language governing permissions and limitations
 // under the License.
 
-# Represents the TypeChecker which is used by the runtime to check whether a type is a subtype of `kafka:AnydataConsumerRecord`
-isolated class TypeChecker {
+# Consumer record type to which the listener binds the consumer records. The key, timestamp and headers of the
+# records can be left out of the consumer record type when they are not needed, and they are not bound then.
+type ListenerConsumerRecord record {|
+    anydata key?;
+    anydata value;
+    int timestamp?;
+    PartitionOffset offset;
+    map<byte[]|byte[][]|string|string[]> headers?;
+|};
 
-    # Gets invoked during object initialization.
-    #
-    isolated function init() {}
-
-    # Checks whether a given type is a subtype of `kafka:AnydataConsumerRecord`.
-    # 
-    # + typeDesc - The type needed to be checked as a subtype of `kafka:AnydataConsumerRecord`
-    # + return - True if the type is a subtype of `kafka:AnydataConsumerRecord`, else false
-    isolated function isAnydataConsumerRecord(typedesc<anydata> typeDesc) returns boolean {
-        if typeDesc is typedesc<AnydataConsumerRecord> {
-            return true;
-        }
-        return false;
-    }
+# Checks whether a given type is a subtype of `kafka:AnydataConsumerRecord`, or a consumer record type which leaves out
+# the key, timestamp or headers of the records.
+#
+# + typeDesc - The type needed to be checked as a consumer record type
+# + return - True if the type is a consumer record type, else false
+isolated function isConsumerRecordType(typedesc? typeDesc) returns boolean {
+    return typeDesc is typedesc<ListenerConsumerRecord>;
 }
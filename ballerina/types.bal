@@ -24,6 +24,9 @@ public type DeserializerType DES_BYTE_ARRAY;
 # `kafka:Consumer` isolation level type.
 public type IsolationLevel ISOLATION_COMMITTED|ISOLATION_UNCOMMITTED;
 
+# Represents the different polling modes of the `kafka:Listener`.
+public type PollingMode POLLING_MODE_FIXED|POLLING_MODE_CONTINUOUS|POLLING_MODE_ADAPTIVE;
+
 // Producer-related types
 # `kafka:Producer` acknowledgement types.
 public type ProducerAcks ACKS_ALL|ACKS_NONE|ACKS_SINGLE;
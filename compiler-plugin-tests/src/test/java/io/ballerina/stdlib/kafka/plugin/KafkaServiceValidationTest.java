@@ -162,6 +162,14 @@ public class KafkaServiceValidationTest {
         Assert.assertEquals(diagnosticResult.errors().size(), 0);
     }
 
+    @Test(enabled = true, description = "Validate consumer record types leaving out the key, timestamp or headers")
+    public void testValidService15() {
+        Package currentPackage = loadPackage("valid_service_15");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 0);
+    }
+
     @Test(enabled = true, description = "Validate no remote method")
     public void testInvalidService1() {
         Package currentPackage = loadPackage("invalid_service_1");
@@ -0,0 +1,67 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/kafka;
+
+kafka:ConsumerConfiguration consumerConfigs = {
+    groupId: "group-id",
+    topics: ["test-kafka-topic"],
+    pollingInterval: 1,
+    autoCommit: false
+};
+
+listener kafka:Listener kafkaListener = new (kafka:DEFAULT_URL, consumerConfigs);
+
+service kafka:Service on kafkaListener {
+
+    remote function onConsumerRecord(ValueConsumerRecord[] records, kafka:Caller caller) {
+    }
+}
+
+service kafka:Service on kafkaListener {
+
+    remote function onConsumerRecord(readonly & KeyValueConsumerRecord[] records, string[] data) {
+    }
+}
+
+service kafka:Service on kafkaListener {
+
+    remote function onConsumerRecord(HeaderConsumerRecord[] records) {
+    }
+}
+
+public type ValueConsumerRecord record {|
+    string value;
+    kafka:PartitionOffset offset;
+|};
+
+public type KeyValueConsumerRecord record {|
+    string key?;
+    Person value;
+    int timestamp;
+    kafka:PartitionOffset offset;
+|};
+
+public type HeaderConsumerRecord record {|
+    byte[] value;
+    kafka:PartitionOffset offset;
+    map<string> headers;
+|};
+
+public type Person record {|
+    string name;
+    int age;
+|};
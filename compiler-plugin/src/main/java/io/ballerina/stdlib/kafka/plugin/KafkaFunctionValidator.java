@@ -394,27 +394,35 @@ public class KafkaFunctionValidator {
     }
 
     private boolean validateConsumerRecordFields(Map<String, RecordFieldSymbol> fieldDescriptors) {
-        if (fieldDescriptors.size() != 5 || !fieldDescriptors.containsKey(CONSUMER_RECORD_KEY) ||
-                !fieldDescriptors.containsKey(CONSUMER_RECORD_VALUE) ||
-                !fieldDescriptors.containsKey(CONSUMER_RECORD_TIMESTAMP) ||
-                !fieldDescriptors.containsKey(CONSUMER_RECORD_OFFSET) ||
-                !fieldDescriptors.containsKey(CONSUMER_RECORD_HEADERS)) {
+        // The key, timestamp and headers can be left out of the consumer record type when they are not needed.
+        if (!fieldDescriptors.containsKey(CONSUMER_RECORD_VALUE) ||
+                !fieldDescriptors.containsKey(CONSUMER_RECORD_OFFSET)) {
             return false;
         }
-        if (fieldDescriptors.get(CONSUMER_RECORD_TIMESTAMP).typeDescriptor().typeKind() != INT) {
+        for (String fieldName : fieldDescriptors.keySet()) {
+            if (!fieldName.equals(CONSUMER_RECORD_KEY) && !fieldName.equals(CONSUMER_RECORD_VALUE) &&
+                    !fieldName.equals(CONSUMER_RECORD_TIMESTAMP) && !fieldName.equals(CONSUMER_RECORD_OFFSET) &&
+                    !fieldName.equals(CONSUMER_RECORD_HEADERS)) {
+                return false;
+            }
+        }
+        if (fieldDescriptors.containsKey(CONSUMER_RECORD_TIMESTAMP) &&
+                fieldDescriptors.get(CONSUMER_RECORD_TIMESTAMP).typeDescriptor().typeKind() != INT) {
             return false;
         }
         if (fieldDescriptors.get(CONSUMER_RECORD_OFFSET).typeDescriptor().typeKind() != TYPE_REFERENCE &&
                 fieldDescriptors.get(CONSUMER_RECORD_OFFSET).typeDescriptor().typeKind() != RECORD) {
             return false;
         }
-        if (fieldDescriptors.get(CONSUMER_RECORD_HEADERS).typeDescriptor().typeKind() != MAP) {
+        if (fieldDescriptors.containsKey(CONSUMER_RECORD_HEADERS) &&
+                fieldDescriptors.get(CONSUMER_RECORD_HEADERS).typeDescriptor().typeKind() != MAP) {
             return false;
         }
         if (!validateOffsetField(fieldDescriptors.get(CONSUMER_RECORD_OFFSET).typeDescriptor())) {
             return false;
         }
-        if (!validateAnydataFields(fieldDescriptors.get(CONSUMER_RECORD_KEY).typeDescriptor())) {
+        if (fieldDescriptors.containsKey(CONSUMER_RECORD_KEY) &&
+                !validateAnydataFields(fieldDescriptors.get(CONSUMER_RECORD_KEY).typeDescriptor())) {
             return false;
         }
         if (!validateAnydataFields(fieldDescriptors.get(CONSUMER_RECORD_VALUE).typeDescriptor())) {
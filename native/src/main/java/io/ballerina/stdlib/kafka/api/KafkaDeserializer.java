@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.api;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * This interface defines a deserializer of the keys and values of the records received by the Kafka consumers and
+ * listeners. The implementations are discovered as services of this interface, or registered through
+ * {@code KafkaSerDesRegistry#register}, and are selected by name in the consumer configuration.
+ */
+public interface KafkaDeserializer {
+
+    /**
+     * Returns the name by which the deserializer is selected in the consumer configuration.
+     *
+     * @return name of the deserializer
+     */
+    String getName();
+
+    /**
+     * Triggered once for each intended type of the keys or values polled by a consumer, and once for each consumer
+     * record or payload parameter of a listener service when the service is attached. The returned function is
+     * applied to the remaining bytes of the buffer of each record, which must not be retained after the function
+     * returns, and returns the deserialized value or a {@code BError}.
+     *
+     * @param type intended type of the deserialized values
+     * @return function deserializing the values to the intended type
+     */
+    Function<ByteBuffer, Object> forType(Type type);
+}
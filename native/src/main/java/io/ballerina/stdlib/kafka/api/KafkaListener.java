@@ -47,4 +47,15 @@ public interface KafkaListener {
      */
     void onError(Throwable throwable);
 
+    /**
+     * If there are errors of a consumer, Kafka connector will trigger this method. Delegates to
+     * {@link #onError(Throwable)} unless overridden.
+     *
+     * @param throwable     contains the error details of the event.
+     * @param kafkaConsumer consumer from which the error originated
+     */
+    default void onError(Throwable throwable, KafkaConsumer kafkaConsumer) {
+        onError(throwable);
+    }
+
 }
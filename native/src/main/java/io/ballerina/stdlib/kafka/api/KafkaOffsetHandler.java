@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.api;
+
+import io.ballerina.stdlib.kafka.utils.PartitionOffset;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+
+/**
+ * This interface defines how the offsets of the Kafka records bound in a single poll cycle are handled.
+ */
+public interface KafkaOffsetHandler {
+
+    /**
+     * Triggered when binding of a batch stops at a record, which needs to be consumed again.
+     *
+     * @param topicPartition partition of the record
+     * @param offset         offset of the record
+     */
+    void seek(TopicPartition topicPartition, long offset);
+
+    /**
+     * Triggered once a batch is bound, with the last bound offset of each partition. The map is empty when auto
+     * committing is disabled.
+     *
+     * @param partitionOffsets last bound offset of each partition, keyed by the topic partition name
+     */
+    void commit(Map<String, PartitionOffset> partitionOffsets);
+}
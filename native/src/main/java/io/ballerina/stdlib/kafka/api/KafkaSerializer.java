@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface defines a serializer of the keys and values of the records sent by the Kafka producer. The
+ * implementations are discovered as services of this interface, or registered through
+ * {@code KafkaSerDesRegistry#register}, and are selected by name in the producer configuration.
+ */
+public interface KafkaSerializer {
+
+    /**
+     * Returns the name by which the serializer is selected in the producer configuration.
+     *
+     * @return name of the serializer
+     */
+    String getName();
+
+    /**
+     * Triggered for each key and value of the records sent to a topic, which is configured with the serializer. The
+     * remaining bytes of the returned buffer are sent as the serialized value.
+     *
+     * @param topic topic to which the record is sent
+     * @param value Ballerina key or value of the record
+     * @return buffer of the serialized value
+     */
+    ByteBuffer serialize(String topic, Object value);
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.impl;
+
+import io.ballerina.stdlib.kafka.api.KafkaListener;
+import io.ballerina.stdlib.kafka.observability.KafkaPollStageRecorder;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code KafkaCommitManager} commits the offsets of the processed records of a listener consumer asynchronously. The
+ * offsets staged by the processed batches are coalesced per partition, and committed by the polling thread when the
+ * commit interval is elapsed or when the number of uncommitted records reaches the limit. Pending offsets are
+ * committed synchronously before the partitions are revoked and before the consumer is closed.
+ */
+public class KafkaCommitManager {
+
+    private final KafkaConsumer kafkaConsumer;
+    private final KafkaListener kafkaListener;
+    private final long commitInterval;
+    private final long maxUncommittedRecords;
+    private final KafkaPollStageRecorder stageRecorder;
+    private final Map<TopicPartition, OffsetAndMetadata> pendingOffsets = new HashMap<>();
+    private final Map<TopicPartition, Long> committedOffsets = new HashMap<>();
+    private long uncommittedRecords = 0;
+    private long lastCommitTime = System.currentTimeMillis();
+
+    /**
+     * Creates a commit manager for the given consumer.
+     *
+     * @param kafkaConsumer         consumer of which the offsets are committed
+     * @param kafkaListener         listener to which the commit failures are reported
+     * @param commitInterval        minimum interval between two commits in milliseconds
+     * @param maxUncommittedRecords number of uncommitted records which triggers a commit before the interval is
+     *                              elapsed, or a non-positive value to commit only on the interval
+     * @param stageRecorder         recorder of the time taken by the commits
+     */
+    public KafkaCommitManager(KafkaConsumer kafkaConsumer, KafkaListener kafkaListener, long commitInterval,
+                              long maxUncommittedRecords, KafkaPollStageRecorder stageRecorder) {
+        this.kafkaConsumer = kafkaConsumer;
+        this.kafkaListener = kafkaListener;
+        this.commitInterval = commitInterval;
+        this.maxUncommittedRecords = maxUncommittedRecords;
+        this.stageRecorder = stageRecorder;
+    }
+
+    /**
+     * Stages the offsets to be committed. Offsets of a partition only move forward.
+     *
+     * @param offsets offsets of the next records to be consumed from the partitions
+     */
+    public synchronized void stage(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        offsets.forEach((topicPartition, offsetAndMetadata) -> {
+            OffsetAndMetadata stagedOffset = pendingOffsets.get(topicPartition);
+            Long previousOffset = stagedOffset != null ? Long.valueOf(stagedOffset.offset())
+                    : committedOffsets.get(topicPartition);
+            if (previousOffset == null) {
+                pendingOffsets.put(topicPartition, offsetAndMetadata);
+            } else if (offsetAndMetadata.offset() > previousOffset) {
+                pendingOffsets.put(topicPartition, offsetAndMetadata);
+                uncommittedRecords += offsetAndMetadata.offset() - previousOffset;
+            }
+        });
+    }
+
+    /**
+     * Commits the staged offsets asynchronously if the commit policy is satisfied. Must be called by the thread which
+     * polls the consumer.
+     */
+    public void maybeCommit() {
+        Map<TopicPartition, OffsetAndMetadata> offsets;
+        synchronized (this) {
+            if (pendingOffsets.isEmpty() || (System.currentTimeMillis() - lastCommitTime < commitInterval
+                    && (maxUncommittedRecords <= 0 || uncommittedRecords < maxUncommittedRecords))) {
+                return;
+            }
+            offsets = drainPendingOffsets();
+        }
+        synchronized (kafkaConsumer) {
+            // Offsets of the partitions revoked since they were staged cannot be committed by this consumer.
+            offsets.keySet().retainAll(kafkaConsumer.assignment());
+            if (offsets.isEmpty()) {
+                return;
+            }
+            // An asynchronous commit is recorded from when it is sent until it is completed.
+            long commitStartTime = System.nanoTime();
+            kafkaConsumer.commitAsync(offsets, (committed, exception) -> {
+                stageRecorder.record(KafkaPollStageRecorder.Stage.COMMIT, commitStartTime);
+                if (exception != null) {
+                    // Failed offsets are retried with the next commit, unless newer offsets are staged already.
+                    restage(offsets);
+                    kafkaListener.onError(exception, kafkaConsumer);
+                }
+            });
+        }
+    }
+
+    /**
+     * Commits the staged offsets of the given partitions synchronously, before they are revoked.
+     *
+     * @param partitions partitions being revoked
+     */
+    public void commitSync(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        synchronized (this) {
+            for (TopicPartition topicPartition : partitions) {
+                OffsetAndMetadata offsetAndMetadata = pendingOffsets.remove(topicPartition);
+                if (offsetAndMetadata != null) {
+                    offsets.put(topicPartition, offsetAndMetadata);
+                }
+                committedOffsets.remove(topicPartition);
+            }
+        }
+        commitSync(offsets);
+    }
+
+    /**
+     * Discards the staged offsets of the given partitions, once they are lost.
+     *
+     * @param partitions partitions which are lost
+     */
+    public synchronized void discard(Collection<TopicPartition> partitions) {
+        for (TopicPartition topicPartition : partitions) {
+            pendingOffsets.remove(topicPartition);
+            committedOffsets.remove(topicPartition);
+        }
+    }
+
+    /**
+     * Commits all the staged offsets synchronously, before the consumer is closed.
+     */
+    public void commitSync() {
+        Map<TopicPartition, OffsetAndMetadata> offsets;
+        synchronized (this) {
+            offsets = drainPendingOffsets();
+        }
+        commitSync(offsets);
+    }
+
+    private void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+        try {
+            synchronized (kafkaConsumer) {
+                offsets.keySet().retainAll(kafkaConsumer.assignment());
+                if (offsets.isEmpty()) {
+                    return;
+                }
+                long commitStartTime = System.nanoTime();
+                try {
+                    kafkaConsumer.commitSync(offsets);
+                } catch (WakeupException e) {
+                    // Consumer is woken up to stop polling while it is being closed, hence the commit is retried.
+                    kafkaConsumer.commitSync(offsets);
+                }
+                stageRecorder.record(KafkaPollStageRecorder.Stage.COMMIT, commitStartTime);
+            }
+        } catch (KafkaException e) {
+            kafkaListener.onError(e, kafkaConsumer);
+        }
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> drainPendingOffsets() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>(pendingOffsets);
+        offsets.forEach((topicPartition, offsetAndMetadata) ->
+                committedOffsets.put(topicPartition, offsetAndMetadata.offset()));
+        pendingOffsets.clear();
+        uncommittedRecords = 0;
+        lastCommitTime = System.currentTimeMillis();
+        return offsets;
+    }
+
+    private synchronized void restage(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        offsets.forEach((topicPartition, offsetAndMetadata) -> {
+            pendingOffsets.putIfAbsent(topicPartition, offsetAndMetadata);
+            committedOffsets.remove(topicPartition);
+        });
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.impl;
+
+import io.ballerina.stdlib.kafka.api.KafkaOffsetHandler;
+import io.ballerina.stdlib.kafka.utils.PartitionOffset;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code KafkaDeferredOffsetHandler} records the offsets of a batch bound away from the polling thread, so that the
+ * polling thread, which owns the consumer, can commit and seek them once the batch is processed. Offsets of the
+ * sub-batches of a batch may be recorded concurrently.
+ */
+public class KafkaDeferredOffsetHandler implements KafkaOffsetHandler {
+
+    private final Map<TopicPartition, Long> seekOffsets = new HashMap<>();
+    private final Map<TopicPartition, PartitionOffset> consumedOffsets = new HashMap<>();
+
+    @Override
+    public synchronized void seek(TopicPartition topicPartition, long offset) {
+        seekOffsets.put(topicPartition, offset);
+    }
+
+    @Override
+    public synchronized void commit(Map<String, PartitionOffset> partitionOffsets) {
+        for (PartitionOffset partitionOffset : partitionOffsets.values()) {
+            consumedOffsets.put(partitionOffset.getTopicPartition(), partitionOffset);
+        }
+    }
+
+    /**
+     * Returns whether the binding stopped at a record, which needs to be consumed again.
+     *
+     * @return true if a seek is requested, false otherwise
+     */
+    public synchronized boolean isSeekRequested() {
+        return !seekOffsets.isEmpty();
+    }
+
+    /**
+     * Returns the offset of the next record to be consumed from the given partition, if it is known.
+     *
+     * @param topicPartition partition of the batch
+     * @return offset of the next record, or null if the batch did not report it
+     */
+    public synchronized Long getNextOffset(TopicPartition topicPartition) {
+        if (seekOffsets.containsKey(topicPartition)) {
+            return seekOffsets.get(topicPartition);
+        }
+        if (consumedOffsets.containsKey(topicPartition)) {
+            return consumedOffsets.get(topicPartition).getOffset() + 1;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the offsets to be committed for the consumed records of the batch.
+     *
+     * @return map of the offsets to be committed
+     */
+    public synchronized Map<TopicPartition, OffsetAndMetadata> getOffsetsToCommit() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        consumedOffsets.forEach((topicPartition, partitionOffset) ->
+                offsets.put(topicPartition, new OffsetAndMetadata(partitionOffset.getOffset() + 1)));
+        return offsets;
+    }
+
+    /**
+     * Hands over the recorded offsets to the given offset handler.
+     *
+     * @param offsetHandler offset handler of the enclosing batch
+     */
+    public synchronized void flush(KafkaOffsetHandler offsetHandler) {
+        seekOffsets.forEach(offsetHandler::seek);
+        Map<String, PartitionOffset> partitionOffsets = new HashMap<>();
+        consumedOffsets.forEach((topicPartition, partitionOffset) ->
+                partitionOffsets.put(topicPartition.topic() + "-" + topicPartition.partition(), partitionOffset));
+        offsetHandler.commit(partitionOffsets);
+    }
+}
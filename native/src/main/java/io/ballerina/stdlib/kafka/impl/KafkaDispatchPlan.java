@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.impl;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.kafka.exceptions.KafkaConnectorException;
+import io.ballerina.stdlib.kafka.utils.KafkaRecordDeserializer;
+import io.ballerina.stdlib.kafka.utils.KafkaUtils;
+import io.ballerina.stdlib.kafka.utils.KafkaUtils.ConsumerRecordBinder;
+import io.ballerina.stdlib.kafka.utils.KafkaUtils.PayloadBinder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static io.ballerina.runtime.api.types.TypeTags.ARRAY_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.INTERSECTION_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.OBJECT_TYPE_TAG;
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSTRAINT_VALIDATION;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_CONFIG_FIELD_NAME;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RESOURCE_ON_ERROR;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RESOURCE_ON_RECORD;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PARAM_ANNOTATION_PREFIX;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PARAM_PAYLOAD_ANNOTATION_NAME;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getAutoCommitConfig;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getAutoSeekOnErrorConfig;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getConcurrentPartitionDispatchConfig;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getHeaderKeysConfig;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getKeyOrderedDispatchConfig;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getParallelBindingThresholdConfig;
+
+/**
+ * {@code KafkaDispatchPlan} holds how the polled records are dispatched to a service, resolved once when the service
+ * is attached to the listener, so that it is not resolved again in each poll cycle.
+ */
+public class KafkaDispatchPlan {
+
+    /**
+     * Kinds of the parameters of the {@code onConsumerRecord} remote function.
+     */
+    public enum ParameterKind {
+        CALLER,
+        CONSUMER_RECORDS,
+        PAYLOAD
+    }
+
+    private final List<ParameterKind> parameterKinds;
+    // Binders of the consumer record and payload parameters, resolved once for all the polled batches.
+    private final ConsumerRecordBinder[] consumerRecordBinders;
+    private final PayloadBinder[] payloadBinders;
+    private final boolean onConsumerRecordIsolated;
+    private final MethodType onErrorMethod;
+    private final boolean onErrorIsolated;
+    private final boolean autoCommit;
+    private final boolean autoSeek;
+    private final boolean concurrentPartitionDispatch;
+    private final boolean keyOrderedDispatch;
+    private final int parallelBindingThreshold;
+
+    private KafkaDispatchPlan(BObject listener, ObjectType serviceType, ParameterKind[] parameterKinds,
+                              Type[] parameterTypes, RecordType[] consumerRecordTypes) {
+        this.parameterKinds = List.of(parameterKinds);
+        boolean constraintValidation = (boolean) listener.getMapValue(CONSUMER_CONFIG_FIELD_NAME)
+                .get(CONSTRAINT_VALIDATION);
+        Set<String> headerKeys = getHeaderKeysConfig(listener);
+        KafkaRecordDeserializer recordDeserializer = KafkaUtils.getRecordDeserializer(listener);
+        this.consumerRecordBinders = new ConsumerRecordBinder[parameterKinds.length];
+        this.payloadBinders = new PayloadBinder[parameterKinds.length];
+        for (int index = 0; index < parameterKinds.length; index++) {
+            if (parameterKinds[index] == ParameterKind.CONSUMER_RECORDS) {
+                consumerRecordBinders[index] = new ConsumerRecordBinder(consumerRecordTypes[index],
+                        parameterTypes[index].isReadOnly(), constraintValidation, headerKeys, recordDeserializer);
+            } else if (parameterKinds[index] == ParameterKind.PAYLOAD) {
+                payloadBinders[index] = new PayloadBinder(parameterTypes[index], constraintValidation,
+                                                          recordDeserializer);
+            }
+        }
+        this.onConsumerRecordIsolated = serviceType.isIsolated() && serviceType.isIsolated(KAFKA_RESOURCE_ON_RECORD);
+        this.onErrorMethod = getMethod(serviceType, KAFKA_RESOURCE_ON_ERROR);
+        this.onErrorIsolated = serviceType.isIsolated() && serviceType.isIsolated(KAFKA_RESOURCE_ON_ERROR);
+        this.autoCommit = getAutoCommitConfig(listener);
+        this.autoSeek = getAutoSeekOnErrorConfig(listener);
+        this.concurrentPartitionDispatch = getConcurrentPartitionDispatchConfig(listener);
+        this.keyOrderedDispatch = getKeyOrderedDispatchConfig(listener);
+        this.parallelBindingThreshold = getParallelBindingThresholdConfig(listener);
+    }
+
+    /**
+     * Resolves the dispatch plan of the given service.
+     *
+     * @param listener                 listener to which the service is attached
+     * @param service                  service to be dispatched
+     * @param consumerRecordParameters whether each parameter of the {@code onConsumerRecord} remote function is a
+     *                                 consumer record array, as checked by the listener when attaching the service
+     * @return dispatch plan of the service
+     * @throws KafkaConnectorException if the {@code onConsumerRecord} remote function signature is invalid, its
+     *                                 parameters cannot be bound, or it is not isolated while the records are
+     *                                 dispatched concurrently
+     */
+    public static KafkaDispatchPlan create(BObject listener, BObject service, BArray consumerRecordParameters)
+            throws KafkaConnectorException {
+        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        MethodType onConsumerRecordMethod = getMethod(serviceType, KAFKA_RESOURCE_ON_RECORD);
+        if (onConsumerRecordMethod == null) {
+            throw new KafkaConnectorException("Service does not contain the " + KAFKA_RESOURCE_ON_RECORD
+                                                      + " remote function");
+        }
+        Parameter[] parameters = onConsumerRecordMethod.getParameters();
+        ParameterKind[] parameterKinds = new ParameterKind[parameters.length];
+        Type[] parameterTypes = new Type[parameters.length];
+        RecordType[] consumerRecordTypes = new RecordType[parameters.length];
+        boolean callerExists = false;
+        boolean consumerRecordsExists = false;
+        boolean payloadExists = false;
+        for (int index = 0; index < parameters.length; index++) {
+            Type referredType = getReferredType(parameters[index].type);
+            parameterTypes[index] = referredType;
+            switch (referredType.getTag()) {
+                case OBJECT_TYPE_TAG:
+                    if (callerExists) {
+                        throw new KafkaConnectorException("Invalid remote function signature");
+                    }
+                    callerExists = true;
+                    parameterKinds[index] = ParameterKind.CALLER;
+                    break;
+                case INTERSECTION_TAG:
+                case ARRAY_TAG:
+                    if (consumerRecordParameters.getBoolean(index)) {
+                        if (consumerRecordsExists) {
+                            throw new KafkaConnectorException("Invalid remote function signature");
+                        }
+                        consumerRecordsExists = true;
+                        parameterKinds[index] = ParameterKind.CONSUMER_RECORDS;
+                        consumerRecordTypes[index] = (RecordType) getIntendedType(referredType);
+                    } else {
+                        if (payloadExists) {
+                            throw new KafkaConnectorException("Invalid remote function signature");
+                        }
+                        payloadExists = true;
+                        parameterKinds[index] = ParameterKind.PAYLOAD;
+                    }
+                    break;
+                default:
+                    throw new KafkaConnectorException("Invalid remote function signature");
+            }
+        }
+        // The records are dispatched concurrently only to an isolated function, hence the dispatching configurations
+        // would be ignored for any other function.
+        boolean onConsumerRecordIsolated = serviceType.isIsolated()
+                && serviceType.isIsolated(KAFKA_RESOURCE_ON_RECORD);
+        if (!onConsumerRecordIsolated && (getConcurrentPartitionDispatchConfig(listener)
+                || getKeyOrderedDispatchConfig(listener))) {
+            throw new KafkaConnectorException("An isolated service with an isolated " + KAFKA_RESOURCE_ON_RECORD
+                                                      + " remote function is required to dispatch the records "
+                                                      + "concurrently");
+        }
+        try {
+            return new KafkaDispatchPlan(listener, serviceType, parameterKinds, parameterTypes, consumerRecordTypes);
+        } catch (BError e) {
+            throw new KafkaConnectorException("Failed to resolve the binding of the " + KAFKA_RESOURCE_ON_RECORD
+                                                      + " parameters: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the types to be checked as consumer record types by the listener, of the parameters of the
+     * {@code onConsumerRecord} remote function of the given service.
+     *
+     * @param service service to be attached
+     * @return element types of the array parameters which are not annotated as the payload, and nil for the rest
+     */
+    public static BArray getConsumerRecordParameterTypes(BObject service) {
+        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        MethodType onConsumerRecordMethod = getMethod(serviceType, KAFKA_RESOURCE_ON_RECORD);
+        BArray parameterTypes = ValueCreator.createArrayValue(TypeCreator.createArrayType(
+                TypeCreator.createUnionType(PredefinedTypes.TYPE_TYPEDESC, PredefinedTypes.TYPE_NULL)));
+        if (onConsumerRecordMethod == null) {
+            return parameterTypes;
+        }
+        Parameter[] parameters = onConsumerRecordMethod.getParameters();
+        for (int index = 0; index < parameters.length; index++) {
+            Type referredType = getReferredType(parameters[index].type);
+            int tag = referredType.getTag();
+            if ((tag == INTERSECTION_TAG || tag == ARRAY_TAG)
+                    && !isPayloadAnnotated(parameters[index], onConsumerRecordMethod.getAnnotations())) {
+                parameterTypes.add(index, ValueCreator.createTypedescValue(getIntendedType(referredType)));
+            } else {
+                parameterTypes.add(index, (Object) null);
+            }
+        }
+        return parameterTypes;
+    }
+
+    public List<ParameterKind> getParameterKinds() {
+        return parameterKinds;
+    }
+
+    public ConsumerRecordBinder getConsumerRecordBinder(int index) {
+        return consumerRecordBinders[index];
+    }
+
+    public PayloadBinder getPayloadBinder(int index) {
+        return payloadBinders[index];
+    }
+
+    public boolean isOnConsumerRecordIsolated() {
+        return onConsumerRecordIsolated;
+    }
+
+    /**
+     * Returns the {@code onError} remote function of the service.
+     *
+     * @return method type of the function, or null if the service does not have it
+     */
+    public MethodType getOnErrorMethod() {
+        return onErrorMethod;
+    }
+
+    public boolean isOnErrorIsolated() {
+        return onErrorIsolated;
+    }
+
+    public boolean isAutoCommit() {
+        return autoCommit;
+    }
+
+    public boolean isAutoSeek() {
+        return autoSeek;
+    }
+
+    public boolean isConcurrentPartitionDispatch() {
+        return concurrentPartitionDispatch;
+    }
+
+    public boolean isKeyOrderedDispatch() {
+        return keyOrderedDispatch;
+    }
+
+    public int getParallelBindingThreshold() {
+        return parallelBindingThreshold;
+    }
+
+    private static MethodType getMethod(ObjectType serviceType, String methodName) {
+        return Stream.of(serviceType.getMethods())
+                .filter(methodType -> methodName.equals(methodType.getName())).findFirst().orElse(null);
+    }
+
+    private static boolean isPayloadAnnotated(Parameter parameter, BMap<BString, Object> annotations) {
+        if (annotations.containsKey(StringUtils.fromString(PARAM_ANNOTATION_PREFIX + parameter.name))) {
+            BMap paramAnnotationMap = annotations.getMapValue(StringUtils.fromString(
+                    PARAM_ANNOTATION_PREFIX + parameter.name));
+            return paramAnnotationMap.containsKey(PARAM_PAYLOAD_ANNOTATION_NAME);
+        }
+        return false;
+    }
+
+    private static Type getIntendedType(Type type) {
+        if (type.getTag() == INTERSECTION_TAG) {
+            return getReferredType(((ArrayType) ((IntersectionType) type).getConstituentTypes().get(0))
+                    .getElementType());
+        }
+        return getReferredType(getReferredType(((ArrayType) type).getElementType()));
+    }
+}
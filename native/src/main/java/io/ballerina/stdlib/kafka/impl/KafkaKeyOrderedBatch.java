@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.impl;
+
+import io.ballerina.stdlib.kafka.api.KafkaOffsetHandler;
+import io.ballerina.stdlib.kafka.utils.PartitionOffset;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code KafkaKeyOrderedBatch} splits the records of a poll cycle into sub-batches of the records having the same key
+ * in a partition, which can be processed concurrently, and resolves the offsets of the poll cycle once they are
+ * processed.
+ */
+public class KafkaKeyOrderedBatch {
+
+    // Records without a key in a partition are processed in order as a single sub-batch.
+    private static final Object NO_KEY = new Object();
+
+    private final List<ConsumerRecords> subBatches = new ArrayList<>();
+    private final Map<TopicPartition, List<Long>> batchOffsets = new HashMap<>();
+    private final Map<TopicPartition, Set<Long>> processedOffsets = new HashMap<>();
+    // Trackers are kept for the batch, as the consumer forgets the trackers of the partitions revoked meanwhile.
+    private final Map<TopicPartition, KafkaPartitionOffsetTracker> offsetTrackers = new HashMap<>();
+
+    public KafkaKeyOrderedBatch(ConsumerRecords records,
+                                Map<TopicPartition, KafkaPartitionOffsetTracker> consumerOffsetTrackers) {
+        for (Object partition : records.partitions()) {
+            TopicPartition topicPartition = (TopicPartition) partition;
+            List<ConsumerRecord> partitionRecords = records.records(topicPartition);
+            KafkaPartitionOffsetTracker offsetTracker =
+                    consumerOffsetTrackers.computeIfAbsent(topicPartition, key -> new KafkaPartitionOffsetTracker());
+            offsetTrackers.put(topicPartition, offsetTracker);
+            offsetTracker.startBatch(partitionRecords.get(0).offset());
+            List<Long> offsets = new ArrayList<>(partitionRecords.size());
+            Map<Object, List<ConsumerRecord>> keyRecords = new LinkedHashMap<>();
+            for (ConsumerRecord consumerRecord : partitionRecords) {
+                offsets.add(consumerRecord.offset());
+                // Records processed before the partition is consumed again are skipped.
+                if (!offsetTracker.isProcessed(consumerRecord.offset())) {
+                    keyRecords.computeIfAbsent(getRecordKey(consumerRecord), key -> new ArrayList<>())
+                            .add(consumerRecord);
+                }
+            }
+            batchOffsets.put(topicPartition, offsets);
+            processedOffsets.put(topicPartition, ConcurrentHashMap.newKeySet());
+            for (List<ConsumerRecord> subBatchRecords : keyRecords.values()) {
+                subBatches.add(new ConsumerRecords(Map.of(topicPartition, subBatchRecords)));
+            }
+        }
+    }
+
+    /**
+     * Returns the sub-batches of the records, having the same key in a partition.
+     *
+     * @return list of sub-batches
+     */
+    public List<ConsumerRecords> getSubBatches() {
+        return subBatches;
+    }
+
+    /**
+     * Marks the records of the sub-batch as processed, except the records from where the binding stopped.
+     *
+     * @param subBatch      processed sub-batch
+     * @param offsetHandler offset handler which recorded the offsets of the sub-batch
+     */
+    public void onSubBatchProcessed(ConsumerRecords subBatch, KafkaDeferredOffsetHandler offsetHandler) {
+        for (Object partition : subBatch.partitions()) {
+            TopicPartition topicPartition = (TopicPartition) partition;
+            Long seekOffset = offsetHandler.isSeekRequested() ? offsetHandler.getNextOffset(topicPartition) : null;
+            Set<Long> partitionProcessedOffsets = processedOffsets.get(topicPartition);
+            for (Object record : subBatch.records(topicPartition)) {
+                long offset = ((ConsumerRecord) record).offset();
+                if (seekOffset != null && offset >= seekOffset) {
+                    break;
+                }
+                partitionProcessedOffsets.add(offset);
+            }
+        }
+    }
+
+    /**
+     * Commits each partition up to the first record which is not processed yet, and seeks the partition back to that
+     * record, so that it is consumed again.
+     *
+     * @param offsetHandler offset handler of the poll cycle
+     * @param autoCommit    whether the offsets should be committed
+     */
+    public void complete(KafkaOffsetHandler offsetHandler, boolean autoCommit) {
+        batchOffsets.forEach((topicPartition, offsets) -> {
+            long nextOffset = offsetTrackers.get(topicPartition)
+                    .advance(offsets, processedOffsets.get(topicPartition));
+            if (autoCommit && nextOffset > offsets.get(0)) {
+                offsetHandler.commit(Map.of(topicPartition.topic() + "-" + topicPartition.partition(),
+                        new PartitionOffset(topicPartition.topic(), topicPartition.partition(), nextOffset - 1)));
+            }
+            if (nextOffset <= offsets.get(offsets.size() - 1)) {
+                offsetHandler.seek(topicPartition, nextOffset);
+            }
+        });
+    }
+
+    private static Object getRecordKey(ConsumerRecord consumerRecord) {
+        Object key = consumerRecord.key();
+        if (key == null) {
+            return NO_KEY;
+        }
+        if (key instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) key);
+        }
+        return key;
+    }
+}
@@ -21,56 +21,40 @@ package io.ballerina.stdlib.kafka.impl;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MethodType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.RecordType;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
-import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
-import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
-import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.stdlib.kafka.api.KafkaListener;
+import io.ballerina.stdlib.kafka.api.KafkaOffsetHandler;
 import io.ballerina.stdlib.kafka.observability.KafkaMetricsUtil;
 import io.ballerina.stdlib.kafka.observability.KafkaObservabilityConstants;
 import io.ballerina.stdlib.kafka.observability.KafkaObserverContext;
+import io.ballerina.stdlib.kafka.observability.KafkaPollStageRecorder;
 import io.ballerina.stdlib.kafka.utils.KafkaConstants;
 import io.ballerina.stdlib.kafka.utils.KafkaUtils;
 import io.ballerina.stdlib.kafka.utils.ModuleUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Properties;
-import java.util.concurrent.Semaphore;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
-import static io.ballerina.runtime.api.types.TypeTags.ARRAY_TAG;
-import static io.ballerina.runtime.api.types.TypeTags.INTERSECTION_TAG;
-import static io.ballerina.runtime.api.types.TypeTags.OBJECT_TYPE_TAG;
-import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
-import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSTRAINT_VALIDATION;
-import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_CONFIG_FIELD_NAME;
-import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RESOURCE_IS_ANYDATA_CONSUMER_RECORD;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RESOURCE_ON_ERROR;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RESOURCE_ON_RECORD;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_CONSUMER_CONFIG;
-import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PARAM_ANNOTATION_PREFIX;
-import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PARAM_PAYLOAD_ANNOTATION_NAME;
-import static io.ballerina.stdlib.kafka.utils.KafkaConstants.TYPE_CHECKER_OBJECT_NAME;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
-import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getAutoCommitConfig;
-import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getAutoSeekOnErrorConfig;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getConsumerRecords;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getValuesWithIntendedType;
 
@@ -82,11 +66,13 @@ public class KafkaListenerImpl implements KafkaListener {
     private final BObject service;
     private final BObject listener;
     private final Environment env;
+    private final KafkaDispatchPlan dispatchPlan;
 
-    public KafkaListenerImpl(BObject listener, BObject service, Environment env) {
+    public KafkaListenerImpl(BObject listener, BObject service, Environment env, KafkaDispatchPlan dispatchPlan) {
         this.env = env;
         this.listener = listener;
         this.service = service;
+        this.dispatchPlan = dispatchPlan;
     }
 
     /**
@@ -95,8 +81,8 @@ public class KafkaListenerImpl implements KafkaListener {
     @Override
     public void onRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId,
                                   KafkaPollCycleFutureListener consumer) {
-        listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
-        executeResource(listener, consumer, records);
+        KafkaMetricsUtil.reportRecordAge(listener, records);
+        executeResource(listener, kafkaConsumer, consumer, records);
         KafkaMetricsUtil.reportConsume(listener, records);
     }
 
@@ -105,37 +91,146 @@ public class KafkaListenerImpl implements KafkaListener {
      */
     @Override
     public void onError(Throwable t) {
+        onError(t, (KafkaConsumer) listener.getNativeData(NATIVE_CONSUMER));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onError(Throwable t, KafkaConsumer kafkaConsumer) {
         KafkaMetricsUtil.reportConsumerError(listener, KafkaObservabilityConstants.ERROR_TYPE_MSG_RECEIVED);
-        Optional<MethodType> onErrorMethod = getOnErrorMethod(service);
-        if (onErrorMethod.isPresent()) {
-            executeOnError(onErrorMethod.get(), t);
+        MethodType onErrorMethod = dispatchPlan.getOnErrorMethod();
+        if (onErrorMethod != null) {
+            executeOnError(onErrorMethod, t, kafkaConsumer);
         } else {
             t.printStackTrace();
         }
     }
 
-    private void executeResource(BObject listener, KafkaPollCycleFutureListener consumer, ConsumerRecords records) {
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) listener.getNativeData(NATIVE_CONSUMER);
-        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+    private void executeResource(BObject listener, KafkaConsumer kafkaConsumer, KafkaPollCycleFutureListener consumer,
+                                 ConsumerRecords records) {
+        if (dispatchPlan.isOnConsumerRecordIsolated()) {
+            if (dispatchPlan.isKeyOrderedDispatch()) {
+                executeResourcePerKey(listener, kafkaConsumer, consumer, records);
+                return;
+            }
+            if (records.partitions().size() > 1 && dispatchPlan.isConcurrentPartitionDispatch()) {
+                executeResourcePerPartition(listener, kafkaConsumer, consumer, records);
+                return;
+            }
+        }
         Thread.startVirtualThread(() -> {
             Map<String, Object> properties = null;
             if (ObserveUtils.isTracingEnabled()) {
                 properties = getNewObserverContextInProperties(listener);
             }
             try {
-                boolean isIsolated = serviceType.isIsolated() && serviceType.isIsolated(KAFKA_RESOURCE_ON_RECORD);
-                StrandMetadata metadata = new StrandMetadata(isIsolated, properties);
-                Object result = env.getRuntime().callMethod(service, KAFKA_RESOURCE_ON_RECORD, metadata,
-                            getResourceParameters(service, this.listener, records, kafkaConsumer));
+                StrandMetadata metadata = new StrandMetadata(dispatchPlan.isOnConsumerRecordIsolated(), properties);
+                Object[] arguments = getResourceParameters(service, kafkaConsumer, records,
+                        consumer.getOffsetHandler(), consumer.getStageRecorder());
+                long handlerStartTime = System.nanoTime();
+                Object result = env.getRuntime().callMethod(service, KAFKA_RESOURCE_ON_RECORD, metadata, arguments);
+                KafkaMetricsUtil.reportHandlerDuration(listener, System.nanoTime() - handlerStartTime);
                 consumer.notifySuccess(result);
             } catch (BError bError) {
                 consumer.notifyFailure(bError);
-                onError(bError);
+                onError(bError, kafkaConsumer);
             }
         });
     }
 
-    private void executeOnError(MethodType onErrorMethod, Throwable throwable) {
+    /**
+     * Dispatches the records of each partition to the isolated service concurrently, keeping the order of the records
+     * within the partition. Offsets of a partition are handed over to the poll cycle once its records are processed.
+     */
+    private void executeResourcePerPartition(BObject listener, KafkaConsumer kafkaConsumer,
+                                             KafkaPollCycleFutureListener consumer, ConsumerRecords records) {
+        List<ConsumerRecords> subBatches = new ArrayList<>();
+        for (Object partition : records.partitions()) {
+            TopicPartition topicPartition = (TopicPartition) partition;
+            subBatches.add(new ConsumerRecords(Map.of(topicPartition, records.records(topicPartition))));
+        }
+        executeSubBatches(listener, kafkaConsumer, consumer, subBatches,
+                (subBatch, offsetHandler) -> offsetHandler.flush(consumer.getOffsetHandler()),
+                subBatch -> seekToFirstRecord(subBatch, consumer.getOffsetHandler()), () -> { });
+    }
+
+    // The records of a sub-batch whose processing failed are consumed again, hence their offsets are not committed.
+    private static void seekToFirstRecord(ConsumerRecords subBatch, KafkaOffsetHandler offsetHandler) {
+        for (Object partition : subBatch.partitions()) {
+            TopicPartition topicPartition = (TopicPartition) partition;
+            List<ConsumerRecord> partitionRecords = subBatch.records(topicPartition);
+            offsetHandler.seek(topicPartition, partitionRecords.get(0).offset());
+        }
+    }
+
+    /**
+     * Dispatches the records having the same key in a partition to the isolated service concurrently, keeping the
+     * order of the records within the key. Offsets of a partition are committed up to the first record which is not
+     * processed yet, once all the records are processed.
+     */
+    private void executeResourcePerKey(BObject listener, KafkaConsumer kafkaConsumer,
+                                       KafkaPollCycleFutureListener consumer, ConsumerRecords records) {
+        KafkaKeyOrderedBatch batch = new KafkaKeyOrderedBatch(records, consumer.getOffsetTrackers());
+        // Records of a failed sub-batch are left unprocessed, hence the partition is sought back to them on completion.
+        executeSubBatches(listener, kafkaConsumer, consumer, batch.getSubBatches(), batch::onSubBatchProcessed,
+                subBatch -> { }, () -> batch.complete(consumer.getOffsetHandler(), dispatchPlan.isAutoCommit()));
+    }
+
+    private void executeSubBatches(BObject listener, KafkaConsumer kafkaConsumer, KafkaPollCycleFutureListener consumer,
+                                   List<ConsumerRecords> subBatches,
+                                   BiConsumer<ConsumerRecords, KafkaDeferredOffsetHandler> onSubBatchProcessed,
+                                   Consumer<ConsumerRecords> onSubBatchFailed, Runnable onBatchProcessed) {
+        if (subBatches.isEmpty()) {
+            onBatchProcessed.run();
+            consumer.notifySuccess(null);
+            return;
+        }
+        AtomicInteger remainingSubBatches = new AtomicInteger(subBatches.size());
+        AtomicReference<BError> failure = new AtomicReference<>();
+        AtomicReference<BError> returnedError = new AtomicReference<>();
+        for (ConsumerRecords subBatch : subBatches) {
+            Thread.startVirtualThread(() -> {
+                Map<String, Object> properties = null;
+                if (ObserveUtils.isTracingEnabled()) {
+                    properties = getNewObserverContextInProperties(listener);
+                }
+                KafkaDeferredOffsetHandler subBatchOffsetHandler = new KafkaDeferredOffsetHandler();
+                try {
+                    StrandMetadata metadata = new StrandMetadata(true, properties);
+                    Object[] arguments = getResourceParameters(service, kafkaConsumer, subBatch,
+                            subBatchOffsetHandler, consumer.getStageRecorder());
+                    long handlerStartTime = System.nanoTime();
+                    Object result = env.getRuntime().callMethod(service, KAFKA_RESOURCE_ON_RECORD, metadata,
+                            arguments);
+                    KafkaMetricsUtil.reportHandlerDuration(listener, System.nanoTime() - handlerStartTime);
+                    // The records of a sub-batch whose handler returned an error are not processed, hence they are
+                    // consumed again instead of being committed.
+                    if (result instanceof BError) {
+                        returnedError.compareAndSet(null, (BError) result);
+                        onSubBatchFailed.accept(subBatch);
+                    } else {
+                        onSubBatchProcessed.accept(subBatch, subBatchOffsetHandler);
+                    }
+                } catch (BError bError) {
+                    failure.compareAndSet(null, bError);
+                    onSubBatchFailed.accept(subBatch);
+                    onError(bError, kafkaConsumer);
+                }
+                if (remainingSubBatches.decrementAndGet() == 0) {
+                    onBatchProcessed.run();
+                    if (failure.get() != null) {
+                        consumer.notifyFailure(failure.get());
+                    } else {
+                        consumer.notifySuccess(returnedError.get());
+                    }
+                }
+            });
+        }
+    }
+
+    private void executeOnError(MethodType onErrorMethod, Throwable throwable, KafkaConsumer kafkaConsumer) {
         Object[] arguments = new Object[onErrorMethod.getParameters().length];
         if (throwable instanceof BError) {
             arguments[0] = throwable;
@@ -143,17 +238,15 @@ public class KafkaListenerImpl implements KafkaListener {
             arguments[0] = createKafkaError(throwable.getMessage());
         }
         if (arguments.length == 2) {
-            arguments[1] = createCaller(this.listener);
+            arguments[1] = createCaller(kafkaConsumer);
         }
-        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
         Thread.startVirtualThread(() -> {
             Map<String, Object> properties = null;
             if (ObserveUtils.isTracingEnabled()) {
                 properties = getNewObserverContextInProperties(listener);
             }
             try {
-                boolean isIsolated = serviceType.isIsolated() && serviceType.isIsolated(KAFKA_RESOURCE_ON_ERROR);
-                StrandMetadata metadata = new StrandMetadata(isIsolated, properties);
+                StrandMetadata metadata = new StrandMetadata(dispatchPlan.isOnErrorIsolated(), properties);
                 Object result = env.getRuntime().callMethod(service, KAFKA_RESOURCE_ON_ERROR, metadata, arguments);
                 (new KafkaOnErrorCallback()).notifySuccess(result);
             } catch (BError bError) {
@@ -171,121 +264,39 @@ public class KafkaListenerImpl implements KafkaListener {
         return properties;
     }
 
-    public Object[] getResourceParameters(BObject service, BObject listener, ConsumerRecords records,
-                                          KafkaConsumer kafkaConsumer) {
-        MethodType consumerRecordMethodType = getOnConsumerRecordMethod(service).get();
-        Parameter[] parameters = consumerRecordMethodType.getParameters();
-        boolean callerExists = false;
-        boolean consumerRecordsExists = false;
-        boolean payloadExists = false;
-        Object[] arguments = new Object[parameters.length];
-        int index = 0;
-        for (Parameter parameter : parameters) {
-            Type referredType = getReferredType(parameter.type);
-            switch (referredType.getTag()) {
-                case OBJECT_TYPE_TAG:
-                    if (callerExists) {
-                        throw createKafkaError("Invalid remote function signature");
-                    }
-                    callerExists = true;
-                    arguments[index++] = createCaller(listener);
+    public Object[] getResourceParameters(BObject service, KafkaConsumer kafkaConsumer, ConsumerRecords records,
+                                          KafkaOffsetHandler offsetHandler,
+                                          KafkaPollStageRecorder stageRecorder) {
+        List<KafkaDispatchPlan.ParameterKind> parameterKinds = dispatchPlan.getParameterKinds();
+        Object[] arguments = new Object[parameterKinds.size()];
+        for (int index = 0; index < parameterKinds.size(); index++) {
+            switch (parameterKinds.get(index)) {
+                case CALLER:
+                    arguments[index] = createCaller(kafkaConsumer);
                     break;
-                case INTERSECTION_TAG:
-                case ARRAY_TAG:
-                    boolean constraintValidation = (boolean) listener.getMapValue(CONSUMER_CONFIG_FIELD_NAME)
-                            .get(CONSTRAINT_VALIDATION);
-                    boolean autoCommit = getAutoCommitConfig(listener);
-                    boolean autoSeek = getAutoSeekOnErrorConfig(listener);
-                    if (isConsumerRecordsType(parameter, consumerRecordMethodType.getAnnotations())) {
-                        if (consumerRecordsExists) {
-                            throw createKafkaError("Invalid remote function signature");
-                        }
-                        consumerRecordsExists = true;
-                        BArray consumerRecords = getConsumerRecords(records,
-                                (RecordType) getIntendedType(referredType), referredType.isReadOnly(),
-                                constraintValidation, autoCommit, kafkaConsumer, autoSeek);
-                        arguments[index++] = consumerRecords;
-                    } else {
-                        if (payloadExists) {
-                            throw createKafkaError("Invalid remote function signature");
-                        }
-                        payloadExists = true;
-                        BArray payload = getValuesWithIntendedType(referredType, kafkaConsumer, records,
-                                constraintValidation, autoCommit, autoSeek);
-                        arguments[index++] = payload;
-                    }
+                case CONSUMER_RECORDS:
+                    arguments[index] = getConsumerRecords(records, dispatchPlan.getConsumerRecordBinder(index),
+                            dispatchPlan.isAutoCommit(), offsetHandler, dispatchPlan.isAutoSeek(),
+                            dispatchPlan.getParallelBindingThreshold(), stageRecorder);
                     break;
                 default:
-                    throw createKafkaError("Invalid remote function signature");
+                    arguments[index] = getValuesWithIntendedType(records, dispatchPlan.getPayloadBinder(index),
+                            dispatchPlan.isAutoCommit(), offsetHandler, dispatchPlan.isAutoSeek(),
+                            dispatchPlan.getParallelBindingThreshold(), stageRecorder);
+                    break;
             }
         }
         return arguments;
     }
 
-    private boolean isConsumerRecordsType(Parameter parameter, BMap<BString, Object> annotations) {
-        if (annotations.containsKey(StringUtils.fromString(PARAM_ANNOTATION_PREFIX + parameter.name))) {
-            BMap paramAnnotationMap = annotations.getMapValue(StringUtils.fromString(
-                    PARAM_ANNOTATION_PREFIX + parameter.name));
-            if (paramAnnotationMap.containsKey(PARAM_PAYLOAD_ANNOTATION_NAME)) {
-                return false;
-            }
-        }
-        return invokeIsAnydataConsumerRecordTypeMethod(getIntendedType(getReferredType(parameter.type)));
-    }
-
-    private BObject createCaller(BObject listener) {
+    private BObject createCaller(KafkaConsumer kafkaConsumer) {
         BObject caller = ValueCreator.createObjectValue(ModuleUtils.getModule(), KafkaConstants.CALLER_STRUCT_NAME);
-        KafkaConsumer consumer = (KafkaConsumer) listener.getNativeData(NATIVE_CONSUMER);
         Properties consumerProperties = (Properties) listener.getNativeData(NATIVE_CONSUMER_CONFIG);
-        caller.addNativeData(NATIVE_CONSUMER, consumer);
+        caller.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
         caller.addNativeData(NATIVE_CONSUMER_CONFIG, consumerProperties);
         return caller;
     }
 
-    private Type getIntendedType(Type type) {
-        if (type.getTag() == INTERSECTION_TAG) {
-            return getReferredType(((ArrayType) ((IntersectionType) type).getConstituentTypes().get(0))
-                    .getElementType());
-        }
-        return getReferredType(getReferredType(((ArrayType) type).getElementType()));
-    }
-
-    private Optional<MethodType> getOnConsumerRecordMethod(BObject service) {
-        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-        MethodType[] methodTypes = serviceType.getMethods();
-        return Stream.of(methodTypes)
-                .filter(methodType -> KAFKA_RESOURCE_ON_RECORD.equals(methodType.getName())).findFirst();
-    }
-
-    private Optional<MethodType> getOnErrorMethod(BObject service) {
-        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-        MethodType[] methodTypes = serviceType.getMethods();
-        return Stream.of(methodTypes)
-                .filter(methodType -> KAFKA_RESOURCE_ON_ERROR.equals(methodType.getName())).findFirst();
-    }
-
-    private boolean invokeIsAnydataConsumerRecordTypeMethod(Type paramType) {
-        BObject client = ValueCreator.createObjectValue(ModuleUtils.getModule(), TYPE_CHECKER_OBJECT_NAME);
-        Semaphore sem = new Semaphore(0);
-        KafkaRecordTypeCheckCallback recordTypeCheckCallback = new KafkaRecordTypeCheckCallback(sem);
-        Thread.startVirtualThread(() -> {
-            try {
-                Object result = env.getRuntime().callMethod(client,
-                        KAFKA_RESOURCE_IS_ANYDATA_CONSUMER_RECORD, new StrandMetadata(false, null),
-                        ValueCreator.createTypedescValue(paramType));
-                recordTypeCheckCallback.notifySuccess(result);
-            } catch (BError bError) {
-                recordTypeCheckCallback.notifyFailure(bError);
-            }
-        });
-        try {
-            sem.acquire();
-        } catch (InterruptedException e) {
-            throw createKafkaError(e.getMessage());
-        }
-        return recordTypeCheckCallback.getIsConsumerRecordType();
-    }
-
     static class KafkaOnErrorCallback {
         public void notifySuccess(Object result) {
             if (result instanceof BError) {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.impl;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code KafkaPartitionOffsetTracker} tracks the records of a partition processed out of order. Only the offsets up to
+ * the first record which is not processed yet are committed, and the records processed beyond it are remembered, so
+ * that they are not processed again when the partition is consumed again from that record.
+ */
+public class KafkaPartitionOffsetTracker {
+
+    // Offset of the first record which is not processed yet.
+    private long nextOffset = -1;
+    // Records processed beyond the next offset, indexed relative to the next offset.
+    private BitSet processedOffsets = new BitSet();
+
+    /**
+     * Starts tracking a batch of the partition. Tracked records are forgotten if the batch does not start from the
+     * next offset, as the position of the partition is changed elsewhere.
+     *
+     * @param firstOffset offset of the first record of the batch
+     */
+    public synchronized void startBatch(long firstOffset) {
+        if (firstOffset != nextOffset) {
+            nextOffset = firstOffset;
+            processedOffsets = new BitSet();
+        }
+    }
+
+    /**
+     * Returns whether the record is already processed.
+     *
+     * @param offset offset of the record
+     * @return true if the record is processed, false otherwise
+     */
+    public synchronized boolean isProcessed(long offset) {
+        if (offset < nextOffset) {
+            return true;
+        }
+        long index = offset - nextOffset;
+        return index < Integer.MAX_VALUE && processedOffsets.get((int) index);
+    }
+
+    /**
+     * Moves the next offset past the contiguous processed records of the batch.
+     *
+     * @param batchOffsets     offsets of the records of the batch in order
+     * @param processedRecords offsets of the records of the batch processed in this poll cycle
+     * @return offset of the first record which is not processed yet
+     */
+    public synchronized long advance(List<Long> batchOffsets, Set<Long> processedRecords) {
+        long offset = nextOffset;
+        int index = 0;
+        for (; index < batchOffsets.size(); index++) {
+            long batchOffset = batchOffsets.get(index);
+            if (!processedRecords.contains(batchOffset) && !isProcessed(batchOffset)) {
+                break;
+            }
+            offset = batchOffset + 1;
+        }
+        BitSet remainingOffsets = new BitSet();
+        for (; index < batchOffsets.size(); index++) {
+            long batchOffset = batchOffsets.get(index);
+            if (processedRecords.contains(batchOffset) || isProcessed(batchOffset)) {
+                remainingOffsets.set((int) (batchOffset - offset));
+            }
+        }
+        nextOffset = offset;
+        processedOffsets = remainingOffsets;
+        return nextOffset;
+    }
+}
@@ -19,9 +19,13 @@
 package io.ballerina.stdlib.kafka.impl;
 
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.kafka.api.KafkaOffsetHandler;
+import io.ballerina.stdlib.kafka.observability.KafkaPollStageRecorder;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
 import java.util.concurrent.Semaphore;
 
 /**
@@ -37,17 +41,55 @@ public class KafkaPollCycleFutureListener {
     // This listener get notified and Semaphore is released, so that Kafka connector will move to Next polling cycle.
     private final Semaphore sem;
     private final String serviceId;
+    private final KafkaOffsetHandler offsetHandler;
+    private final KafkaPollStageRecorder stageRecorder;
+    private final Map<TopicPartition, KafkaPartitionOffsetTracker> offsetTrackers;
 
     /**
      * Future will get notified from the Ballerina engine when the Resource invocation is over or when an error
      * occurred.
      *
-     * @param sem       semaphore to handle futures
-     * @param serviceId Service ID of the service handling the resource
+     * @param sem           semaphore to handle futures
+     * @param serviceId     Service ID of the service handling the resource
+     * @param offsetHandler handles the offsets of the records bound in this poll cycle
+     * @param stageRecorder  records the time taken by the stages of this poll cycle
+     * @param offsetTrackers trackers of the out-of-order processed records of the partitions of the consumer
      */
-    public KafkaPollCycleFutureListener(Semaphore sem, String serviceId) {
+    public KafkaPollCycleFutureListener(Semaphore sem, String serviceId, KafkaOffsetHandler offsetHandler,
+                                        KafkaPollStageRecorder stageRecorder,
+                                        Map<TopicPartition, KafkaPartitionOffsetTracker> offsetTrackers) {
         this.sem = sem;
         this.serviceId = serviceId;
+        this.offsetHandler = offsetHandler;
+        this.stageRecorder = stageRecorder;
+        this.offsetTrackers = offsetTrackers;
+    }
+
+    /**
+     * Returns the handler of the offsets bound in this poll cycle.
+     *
+     * @return offset handler of the poll cycle
+     */
+    public KafkaOffsetHandler getOffsetHandler() {
+        return offsetHandler;
+    }
+
+    /**
+     * Returns the recorder of the time taken by the stages of this poll cycle.
+     *
+     * @return stage recorder of the poll cycle
+     */
+    public KafkaPollStageRecorder getStageRecorder() {
+        return stageRecorder;
+    }
+
+    /**
+     * Returns the trackers of the out-of-order processed records of the partitions assigned to the consumer.
+     *
+     * @return offset trackers keyed by the partition
+     */
+    public Map<TopicPartition, KafkaPartitionOffsetTracker> getOffsetTrackers() {
+        return offsetTrackers;
     }
 
     /**
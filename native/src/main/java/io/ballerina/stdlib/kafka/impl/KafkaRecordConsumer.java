@@ -20,61 +20,141 @@ package io.ballerina.stdlib.kafka.impl;
 
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.stdlib.kafka.api.KafkaListener;
+import io.ballerina.stdlib.kafka.api.KafkaOffsetHandler;
+import io.ballerina.stdlib.kafka.observability.KafkaMetricsUtil;
+import io.ballerina.stdlib.kafka.observability.KafkaObservabilityConstants;
+import io.ballerina.stdlib.kafka.observability.KafkaPollStageRecorder;
 import io.ballerina.stdlib.kafka.utils.KafkaConstants;
+import io.ballerina.stdlib.kafka.utils.KafkaUtils;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * {@code KafkaRecordConsumer} This class represents Runnable flow which periodically poll the remote broker and fetch
- * Kafka records.
+ * Kafka records. The polling is done in a loop running on a virtual thread of its own.
  */
 public class KafkaRecordConsumer {
 
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaRecordConsumer.class);
+    private static final long MIN_ADAPTIVE_DELAY = 10;
+    // Maximum time the consumer is held by a single poll when the processing is decoupled from polling.
+    private static final Duration DECOUPLED_POLL_SLICE = Duration.ofMillis(100);
 
     private KafkaConsumer kafkaConsumer;
     private Duration pollingTimeout = Duration.ofMillis(1000);
     private int pollingInterval = 1000;
+    private String pollingMode = KafkaConstants.POLLING_MODE_FIXED;
+    // Delay before the next poll in the adaptive polling mode, which is within 0 and the polling interval.
+    private long adaptiveDelay = 0;
     private long stopTimeout = 30000;
     private String groupId;
     private final KafkaListener kafkaListener;
     private final String serviceId;
     private final int consumerId;
-    private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
-    private ScheduledFuture pollTaskFuture;
+    private final String clientId;
+    private final String bootstrapServers;
+    private final KafkaPollStageRecorder stageRecorder;
+    private Thread pollingThread;
+    // Set when an un-recoverable error is thrown during the poll, to stop the polling loop.
+    private volatile boolean pollingStopped = false;
+    private final KafkaCommitManager commitManager;
+    // Trackers of the records processed out of order by the key-ordered dispatching, of the assigned partitions.
+    private final Map<TopicPartition, KafkaPartitionOffsetTracker> offsetTrackers = new ConcurrentHashMap<>();
+
+    // Following fields are only used when the records of consecutive polls are accumulated into a micro-batch.
+    private int minBatchRecords = 0;
+    private long maxBatchBytes = 0;
+    private long maxBatchWait;
+    private final Map<TopicPartition, List<ConsumerRecord>> accumulatedRecords = new HashMap<>();
+    private int accumulatedRecordCount = 0;
+    private long accumulatedBytes = 0;
+
+    // Partitions paused by the polling thread while it waits for the in-flight records to be processed.
+    private final Set<TopicPartition> backPressuredPartitions = new HashSet<>();
+    private boolean backPressured = false;
+    // Time to wait for the in-flight records before polling with the partitions paused.
+    private Duration backPressureTimeout;
+
+    // Following fields are only used when the processing is decoupled from polling. The polling thread hands off the
+    // polled batches to the dispatcher thread and applies the outcome of the processed batches to the consumer, as the
+    // consumer is only accessed by the polling thread.
+    private boolean decoupleProcessing = false;
+    private int maxInFlightBatches = 2;
+    private Semaphore inFlightBatches;
+    private BlockingQueue<PolledBatch> polledBatches;
+    private final ConcurrentLinkedQueue<KafkaDeferredOffsetHandler> processedBatches = new ConcurrentLinkedQueue<>();
+    private final Map<TopicPartition, Long> nextOffsets = new ConcurrentHashMap<>();
+    private volatile int epoch = 0;
+    private volatile boolean rewindRequested = false;
+    private Thread dispatcherThread;
 
     public KafkaRecordConsumer(KafkaListener kafkaListener, Properties configParams, String serviceId, int consumerId,
                                KafkaConsumer kafkaConsumer) {
         this.serviceId = serviceId;
         this.consumerId = consumerId;
+        this.clientId = KafkaUtils.getClientIdFromProperties(configParams);
+        this.bootstrapServers = configParams.getProperty(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG);
+        this.stageRecorder = new KafkaPollStageRecorder(serviceId, consumerId, this.clientId, this.bootstrapServers);
         // Initialize Kafka Consumer.
         if (Objects.isNull(kafkaConsumer)) {
             this.kafkaConsumer = new KafkaConsumer<>(configParams);
         } else {
             this.kafkaConsumer = kafkaConsumer;
         }
+        this.decoupleProcessing =
+                Boolean.TRUE.equals(configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING.getValue()));
+        if (configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES.getValue()) != null) {
+            this.maxInFlightBatches = (Integer) configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES.getValue());
+        }
+        if (this.decoupleProcessing) {
+            this.inFlightBatches = new Semaphore(this.maxInFlightBatches);
+            this.polledBatches = new ArrayBlockingQueue<>(this.maxInFlightBatches);
+        }
+        this.kafkaListener = kafkaListener;
+        int commitInterval = 0;
+        if (configParams.get(KafkaConstants.ALIAS_OFFSET_COMMIT_INTERVAL.getValue()) != null) {
+            commitInterval = (Integer) configParams.get(KafkaConstants.ALIAS_OFFSET_COMMIT_INTERVAL.getValue());
+        }
+        int maxUncommittedRecords = 0;
+        if (configParams.get(KafkaConstants.ALIAS_MAX_UNCOMMITTED_RECORDS.getValue()) != null) {
+            maxUncommittedRecords =
+                    (Integer) configParams.get(KafkaConstants.ALIAS_MAX_UNCOMMITTED_RECORDS.getValue());
+        }
+        this.commitManager = new KafkaCommitManager(this.kafkaConsumer, kafkaListener, commitInterval,
+                                                    maxUncommittedRecords, this.stageRecorder);
         List<String> topics = (List<String>) configParams.get(KafkaConstants.ALIAS_TOPICS.getValue());
         // Subscribe Kafka Consumer to given topics.
-        this.kafkaConsumer.subscribe(topics);
-        this.kafkaListener = kafkaListener;
+        this.kafkaConsumer.subscribe(topics, new CommittingRebalanceListener());
         if (configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT.getValue()) != null) {
             this.pollingTimeout = Duration.ofMillis((Integer)
                     configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT.getValue()));
@@ -82,62 +162,439 @@ public class KafkaRecordConsumer {
         if (configParams.get(KafkaConstants.ALIAS_POLLING_INTERVAL.getValue()) != null) {
             this.pollingInterval = (Integer) configParams.get(KafkaConstants.ALIAS_POLLING_INTERVAL.getValue());
         }
+        if (configParams.get(KafkaConstants.ALIAS_POLLING_MODE.getValue()) != null) {
+            this.pollingMode = (String) configParams.get(KafkaConstants.ALIAS_POLLING_MODE.getValue());
+        }
+        if (configParams.get(KafkaConstants.ALIAS_MIN_BATCH_RECORDS.getValue()) != null) {
+            this.minBatchRecords = (Integer) configParams.get(KafkaConstants.ALIAS_MIN_BATCH_RECORDS.getValue());
+        }
+        if (configParams.get(KafkaConstants.ALIAS_MAX_BATCH_BYTES.getValue()) != null) {
+            this.maxBatchBytes = (Integer) configParams.get(KafkaConstants.ALIAS_MAX_BATCH_BYTES.getValue());
+        }
+        this.backPressureTimeout = this.pollingTimeout;
+        if (configParams.get(KafkaConstants.ALIAS_BACK_PRESSURE_TIMEOUT.getValue()) != null) {
+            this.backPressureTimeout = Duration.ofMillis((Integer)
+                    configParams.get(KafkaConstants.ALIAS_BACK_PRESSURE_TIMEOUT.getValue()));
+        }
+        this.maxBatchWait = this.pollingInterval;
+        if (configParams.get(KafkaConstants.ALIAS_MAX_BATCH_WAIT.getValue()) != null) {
+            this.maxBatchWait = (Integer) configParams.get(KafkaConstants.ALIAS_MAX_BATCH_WAIT.getValue());
+        }
         this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
     }
 
-    private void poll() {
+    /**
+     * Runs a single polling cycle.
+     *
+     * @return number of records polled in the cycle
+     */
+    private int poll() {
         try {
-            ConsumerRecords recordsRetrieved = null;
+            if (this.decoupleProcessing) {
+                return pollAndHandOff();
+            }
+            this.commitManager.maybeCommit();
+            ConsumerRecords recordsRetrieved = pollBatch();
+            processRetrievedRecords(recordsRetrieved, new KafkaStagingOffsetHandler(this.kafkaConsumer,
+                                                                                    this.commitManager));
+            return Objects.isNull(recordsRetrieved) ? 0 : recordsRetrieved.count();
+        } catch (KafkaException | IllegalStateException | IllegalArgumentException e) {
+            this.kafkaListener.onError(e, this.kafkaConsumer);
+            // When un-recoverable exception is thrown we stop the polling loop.
+            // Later at stopConsume() on KafkaRecordConsumer we close the consumer.
+            this.pollingStopped = true;
+        } catch (BError e) {
+            this.kafkaListener.onError(e, this.kafkaConsumer);
+        }
+        return 0;
+    }
+
+    /**
+     * Runs the polling cycles until the consumer is stopped. In the fixed mode a polling cycle is started on each
+     * polling interval, or right after the previous one if it took longer than the interval.
+     */
+    private void pollContinuously() {
+        long nextPollTime = System.currentTimeMillis();
+        while (!closed.get() && !this.pollingStopped) {
+            int recordCount = poll();
+            long nextPollDelay;
+            if (KafkaConstants.POLLING_MODE_FIXED.equals(this.pollingMode)) {
+                nextPollTime = Math.max(nextPollTime + this.pollingInterval, System.currentTimeMillis());
+                nextPollDelay = nextPollTime - System.currentTimeMillis();
+            } else {
+                nextPollDelay = getNextPollDelay(recordCount);
+            }
+            if (nextPollDelay > 0 && !closed.get()) {
+                // Parked thread is unparked when the consumer is stopped, hence the stop is not delayed by the wait.
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(nextPollDelay));
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                // Polling thread is interrupted only when the consumer is stopped immediately.
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the delay before the next poll. In the continuous mode the next poll is done immediately, and waiting
+     * for the records is left to the polling timeout and the fetch max wait time. In the adaptive mode the delay is
+     * halved when records are received, and doubled up to the polling interval when the poll is idle.
+     *
+     * @param recordCount number of records received in the last poll
+     * @return delay in milliseconds
+     */
+    private long getNextPollDelay(int recordCount) {
+        if (!KafkaConstants.POLLING_MODE_ADAPTIVE.equals(this.pollingMode)) {
+            return 0;
+        }
+        if (recordCount > 0) {
+            this.adaptiveDelay = this.adaptiveDelay / 2;
+        } else {
+            this.adaptiveDelay = Math.min(Math.max(this.adaptiveDelay * 2, MIN_ADAPTIVE_DELAY), this.pollingInterval);
+        }
+        return this.adaptiveDelay;
+    }
+
+    /**
+     * Polls the records to be dispatched. When micro-batching is enabled, the records of consecutive polls are
+     * accumulated until the minimum number of records or the maximum size of the batch is reached, or until the
+     * maximum batch wait time is elapsed.
+     *
+     * @return records to be dispatched
+     */
+    private ConsumerRecords pollBatch() {
+        if (this.minBatchRecords <= 0 && this.maxBatchBytes <= 0) {
+            return pollBatchRecords(this.pollingTimeout);
+        }
+        long batchDeadline = System.currentTimeMillis() + this.maxBatchWait;
+        long remainingWait = this.maxBatchWait;
+        do {
+            Duration timeout = Duration.ofMillis(Math.min(remainingWait, this.pollingTimeout.toMillis()));
+            ConsumerRecords recordsRetrieved = pollBatchRecords(timeout);
+            if (Objects.nonNull(recordsRetrieved)) {
+                accumulateRecords(recordsRetrieved);
+            }
+            remainingWait = batchDeadline - System.currentTimeMillis();
+        } while (!closed.get() && remainingWait > 0 && !isBatchComplete());
+        ConsumerRecords batch = new ConsumerRecords(new HashMap<>(this.accumulatedRecords));
+        this.accumulatedRecords.clear();
+        this.accumulatedRecordCount = 0;
+        this.accumulatedBytes = 0;
+        return batch;
+    }
+
+    private ConsumerRecords pollBatchRecords(Duration timeout) {
+        if (!this.decoupleProcessing) {
+            return pollRecords(timeout);
+        }
+        // Caller functions of the service being processed may use the consumer concurrently, hence the consumer is
+        // polled in short slices of the timeout and released to them in between.
+        long pollDeadline = System.nanoTime() + timeout.toNanos();
+        ConsumerRecords recordsRetrieved;
+        long remainingTimeout;
+        do {
+            remainingTimeout = Math.max(pollDeadline - System.nanoTime(), 0);
+            Duration pollSlice = Duration.ofNanos(Math.min(remainingTimeout, DECOUPLED_POLL_SLICE.toNanos()));
+            synchronized (this.kafkaConsumer) {
+                recordsRetrieved = pollRecords(pollSlice);
+            }
+            Thread.yield();
+        } while (!closed.get() && Objects.nonNull(recordsRetrieved) && recordsRetrieved.isEmpty()
+                && remainingTimeout > DECOUPLED_POLL_SLICE.toNanos());
+        return recordsRetrieved;
+    }
+
+    private void accumulateRecords(ConsumerRecords consumerRecords) {
+        for (Object partition : consumerRecords.partitions()) {
+            TopicPartition topicPartition = (TopicPartition) partition;
+            List<ConsumerRecord> partitionRecords = consumerRecords.records(topicPartition);
+            this.accumulatedRecords.computeIfAbsent(topicPartition, key -> new ArrayList<>()).addAll(partitionRecords);
+            this.accumulatedRecordCount += partitionRecords.size();
+            this.accumulatedBytes += getSerializedSize(partitionRecords);
+        }
+    }
+
+    private boolean isBatchComplete() {
+        return (this.minBatchRecords > 0 && this.accumulatedRecordCount >= this.minBatchRecords)
+                || (this.maxBatchBytes > 0 && this.accumulatedBytes >= this.maxBatchBytes);
+    }
+
+    /**
+     * Discards the accumulated records of the revoked partitions, as they are consumed again by the consumer to which
+     * the partitions are assigned.
+     *
+     * @param partitions revoked partitions
+     */
+    private void discardAccumulatedRecords(Collection<TopicPartition> partitions) {
+        for (TopicPartition topicPartition : partitions) {
+            List<ConsumerRecord> partitionRecords = this.accumulatedRecords.remove(topicPartition);
+            if (Objects.nonNull(partitionRecords)) {
+                this.accumulatedRecordCount -= partitionRecords.size();
+                this.accumulatedBytes -= getSerializedSize(partitionRecords);
+            }
+        }
+    }
+
+    private static long getSerializedSize(List<ConsumerRecord> consumerRecords) {
+        long size = 0;
+        for (ConsumerRecord consumerRecord : consumerRecords) {
+            // Serialized size is -1 when the key or the value is null.
+            size += Math.max(consumerRecord.serializedKeySize(), 0) + Math.max(consumerRecord.serializedValueSize(), 0);
+        }
+        return size;
+    }
+
+    private ConsumerRecords pollRecords(Duration timeout) {
+        ConsumerRecords recordsRetrieved = null;
+        try {
+            // Make thread-safe as kafka does not support multiple thread access
+            if (!closed.get()) {
+                long fetchStartTime = System.nanoTime();
+                recordsRetrieved = this.kafkaConsumer.poll(timeout);
+                this.stageRecorder.record(KafkaPollStageRecorder.Stage.FETCH, fetchStartTime);
+                KafkaMetricsUtil.reportConsumerLag(clientId, bootstrapServers, kafkaConsumer);
+            }
+        } catch (WakeupException e) {
+            // Ignore exception if connection is closing.
+            if (!closed.get()) {
+                throw e;
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Kafka service " + this.serviceId + " attached to consumer "
+                                 + this.consumerId + " has received " + recordsRetrieved.count() + " records.");
+        }
+        return recordsRetrieved;
+    }
+
+    private void processRetrievedRecords(ConsumerRecords consumerRecords, KafkaOffsetHandler offsetHandler) {
+        if (Objects.nonNull(consumerRecords) && !consumerRecords.isEmpty()) {
+            Semaphore sem = new Semaphore(0);
+            KafkaPollCycleFutureListener pollCycleListener =
+                    new KafkaPollCycleFutureListener(sem, serviceId, offsetHandler, this.stageRecorder,
+                                                     this.offsetTrackers);
+            this.kafkaListener.onRecordsReceived(consumerRecords, kafkaConsumer, groupId, pollCycleListener);
+            // We suspend execution of poll cycle here before moving to the next cycle.
+            // Once we receive signal from BVM via KafkaPollCycleFutureListener this suspension is removed
+            // We will move to the next polling cycle.
+            long handlerWaitStartTime = System.nanoTime();
             try {
-                // Make thread-safe as kafka does not support multiple thread access
+                if (this.decoupleProcessing) {
+                    // Records are processed by the dispatcher thread, which must not poll the consumer.
+                    sem.acquire();
+                } else {
+                    acquireWithBackPressure(sem);
+                }
+                this.stageRecorder.record(KafkaPollStageRecorder.Stage.HANDLER_WAIT, handlerWaitStartTime);
+            } catch (InterruptedException e) {
+                this.kafkaListener.onError(e, this.kafkaConsumer);
+                this.pollingStopped = true;
+            }
+        }
+    }
+
+    /**
+     * Polls the next batch while the previous batches are being processed and hands it off to the dispatcher. The
+     * number of batches polled ahead is bounded by the in-flight batch limit, hence the polling is suspended until
+     * the dispatcher catches up.
+     */
+    private int pollAndHandOff() {
+        try {
+            acquireWithBackPressure(this.inFlightBatches);
+        } catch (InterruptedException e) {
+            if (!closed.get()) {
+                this.kafkaListener.onError(e, this.kafkaConsumer);
+                this.pollingStopped = true;
+            }
+            return 0;
+        }
+        boolean handedOff = false;
+        try {
+            ConsumerRecords consumerRecords;
+            // Caller functions of the service being processed may use the consumer concurrently.
+            synchronized (this.kafkaConsumer) {
+                commitProcessedBatches();
+                rewindIfRequested();
+            }
+            consumerRecords = pollBatch();
+            if (Objects.nonNull(consumerRecords) && !consumerRecords.isEmpty()) {
+                for (Object partition : consumerRecords.partitions()) {
+                    TopicPartition topicPartition = (TopicPartition) partition;
+                    List<ConsumerRecord> partitionRecords = consumerRecords.records(topicPartition);
+                    this.nextOffsets.putIfAbsent(topicPartition, partitionRecords.get(0).offset());
+                }
+                handedOff = this.polledBatches.offer(new PolledBatch(consumerRecords, this.epoch));
+                return consumerRecords.count();
+            }
+            return 0;
+        } finally {
+            if (!handedOff) {
+                this.inFlightBatches.release();
+            }
+        }
+    }
+
+    /**
+     * Acquires a permit of the given semaphore, while keeping the consumer polled with the assigned partitions paused.
+     * Thereby a slow service slows down the consumption, instead of the consumer being removed from the group for
+     * exceeding the maximum poll interval. Paused partitions are resumed once the permit is acquired. This applies to
+     * the batch being processed when the processing is not decoupled, and to the in-flight batches otherwise.
+     *
+     * @param semaphore semaphore which is released when the in-flight records are processed
+     * @throws InterruptedException if the polling thread is interrupted while waiting
+     */
+    private void acquireWithBackPressure(Semaphore semaphore) throws InterruptedException {
+        if (semaphore.tryAcquire()) {
+            return;
+        }
+        try {
+            while (!semaphore.tryAcquire(this.backPressureTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                // Once the consumer is stopped, the in-flight records are waited for without polling.
                 if (!closed.get()) {
-                    recordsRetrieved = this.kafkaConsumer.poll(this.pollingTimeout);
+                    pollWhileBackPressured();
                 }
+            }
+        } finally {
+            resumeBackPressuredPartitions();
+        }
+    }
+
+    private void pollWhileBackPressured() {
+        synchronized (this.kafkaConsumer) {
+            this.backPressured = true;
+            pauseAssignedPartitions(this.kafkaConsumer.assignment());
+            this.commitManager.maybeCommit();
+            ConsumerRecords consumerRecords;
+            try {
+                consumerRecords = this.kafkaConsumer.poll(Duration.ZERO);
             } catch (WakeupException e) {
                 // Ignore exception if connection is closing.
                 if (!closed.get()) {
                     throw e;
                 }
+                return;
+            }
+            // Records are not returned for the paused partitions, hence any record returned is consumed again later.
+            for (Object partition : consumerRecords.partitions()) {
+                TopicPartition topicPartition = (TopicPartition) partition;
+                List<ConsumerRecord> partitionRecords = consumerRecords.records(topicPartition);
+                this.kafkaConsumer.seek(topicPartition, partitionRecords.get(0).offset());
             }
             if (logger.isDebugEnabled()) {
-                logger.debug("Kafka service " + this.serviceId + " attached to consumer "
-                                     + this.consumerId + " has received " + recordsRetrieved.count() + " records.");
+                logger.debug("Kafka service " + this.serviceId + " attached to consumer " + this.consumerId
+                                     + " is back-pressured with " + this.backPressuredPartitions.size()
+                                     + " paused partitions.");
             }
-            processRetrievedRecords(recordsRetrieved);
-        } catch (KafkaException | IllegalStateException | IllegalArgumentException e) {
-            this.kafkaListener.onError(e);
-            // When un-recoverable exception is thrown we stop scheduling task to the executor.
-            // Later at stopConsume() on KafkaRecordConsumer we close the consumer.
-            this.pollTaskFuture.cancel(false);
-        } catch (BError e) {
-            this.kafkaListener.onError(e);
         }
     }
 
-    private void processRetrievedRecords(ConsumerRecords consumerRecords) {
-        if (Objects.nonNull(consumerRecords) && !consumerRecords.isEmpty()) {
-            Semaphore sem = new Semaphore(0);
-            KafkaPollCycleFutureListener pollCycleListener = new KafkaPollCycleFutureListener(sem, serviceId);
-            this.kafkaListener.onRecordsReceived(consumerRecords, kafkaConsumer, groupId, pollCycleListener);
-            // We suspend execution of poll cycle here before moving to the next cycle.
-            // Once we receive signal from BVM via KafkaPollCycleFutureListener this suspension is removed
-            // We will move to the next polling cycle.
+    private void pauseAssignedPartitions(Collection<TopicPartition> partitions) {
+        // Partitions paused otherwise are left to be resumed by whoever paused them.
+        Set<TopicPartition> partitionsToPause = new HashSet<>(partitions);
+        partitionsToPause.removeAll(this.kafkaConsumer.paused());
+        this.kafkaConsumer.pause(partitionsToPause);
+        this.backPressuredPartitions.addAll(partitionsToPause);
+    }
+
+    private void resumeBackPressuredPartitions() {
+        synchronized (this.kafkaConsumer) {
+            this.backPressured = false;
+            if (this.backPressuredPartitions.isEmpty()) {
+                return;
+            }
+            this.backPressuredPartitions.retainAll(this.kafkaConsumer.assignment());
+            this.kafkaConsumer.resume(this.backPressuredPartitions);
+            this.backPressuredPartitions.clear();
+        }
+    }
+
+    /**
+     * Dispatches the handed off batches to the service one at a time, in the order they were polled.
+     */
+    private void dispatch() {
+        while (!closed.get()) {
+            PolledBatch batch;
             try {
-                sem.acquire();
+                // Wait for a limited time, so that the stopping of the consumer is noticed.
+                batch = this.polledBatches.poll(this.pollingTimeout.toMillis(), TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
-                this.kafkaListener.onError(e);
-                this.pollTaskFuture.cancel(false);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (Objects.isNull(batch)) {
+                continue;
+            }
+            try {
+                // Batches polled before a rewind are consumed again after the rewind, hence discarded here.
+                if (closed.get() || this.rewindRequested || batch.epoch != this.epoch) {
+                    continue;
+                }
+                KafkaDeferredOffsetHandler offsetHandler = new KafkaDeferredOffsetHandler();
+                processRetrievedRecords(batch.records, offsetHandler);
+                onBatchProcessed(batch.records, offsetHandler);
+            } finally {
+                this.inFlightBatches.release();
+            }
+        }
+    }
+
+    private void onBatchProcessed(ConsumerRecords consumerRecords, KafkaDeferredOffsetHandler offsetHandler) {
+        boolean rewind = offsetHandler.isSeekRequested();
+        for (Object partition : consumerRecords.partitions()) {
+            TopicPartition topicPartition = (TopicPartition) partition;
+            Long nextOffset = offsetHandler.getNextOffset(topicPartition);
+            if (Objects.isNull(nextOffset) && !rewind) {
+                // Offsets are not reported when auto committing is disabled, hence the whole batch is processed.
+                List<ConsumerRecord> partitionRecords = consumerRecords.records(topicPartition);
+                nextOffset = partitionRecords.get(partitionRecords.size() - 1).offset() + 1;
+            }
+            if (Objects.nonNull(nextOffset)) {
+                long offset = nextOffset;
+                this.nextOffsets.computeIfPresent(topicPartition, (key, value) -> offset);
             }
         }
+        this.processedBatches.add(offsetHandler);
+        if (rewind) {
+            this.rewindRequested = true;
+        }
+    }
+
+    private void commitProcessedBatches() {
+        stageProcessedBatches();
+        this.commitManager.maybeCommit();
+    }
+
+    private void stageProcessedBatches() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        KafkaDeferredOffsetHandler offsetHandler;
+        while ((offsetHandler = this.processedBatches.poll()) != null) {
+            offsets.putAll(offsetHandler.getOffsetsToCommit());
+        }
+        offsets.keySet().retainAll(this.kafkaConsumer.assignment());
+        this.commitManager.stage(offsets);
+    }
+
+    private void rewindIfRequested() {
+        if (!this.rewindRequested) {
+            return;
+        }
+        // Invalidate the batches polled ahead, and seek back to the first record which is not processed yet.
+        this.epoch++;
+        this.nextOffsets.keySet().retainAll(this.kafkaConsumer.assignment());
+        this.nextOffsets.forEach(this.kafkaConsumer::seek);
+        this.rewindRequested = false;
     }
 
     /**
-     * Starts Kafka consumer polling cycles, schedules thread pool for given polling cycle.
+     * Starts Kafka consumer polling cycles on a virtual thread, which is parked between the polling cycles.
      */
     public void consume() {
-        final Runnable pollingFunction = () -> poll();
-        this.pollTaskFuture = this.executorService.scheduleAtFixedRate(pollingFunction, 0, this.pollingInterval,
-                                                                       TimeUnit.MILLISECONDS);
+        if (this.decoupleProcessing) {
+            this.dispatcherThread = Thread.ofVirtual().name("kafka-dispatcher-" + this.serviceId + "-"
+                                                                    + this.consumerId).start(this::dispatch);
+        }
+        this.pollingThread = Thread.ofVirtual().name("kafka-poller-" + this.serviceId + "-" + this.consumerId)
+                .start(this::pollContinuously);
     }
 
     /**
@@ -150,51 +607,147 @@ public class KafkaRecordConsumer {
     }
 
     /**
-     * Stops Kafka consumer polling cycles, schedules consumer close and shutdowns scheduled thread pool.
+     * Stops Kafka consumer polling cycles, and closes the consumer once the polling cycle in progress completes.
      */
     public void gracefulStopConsume() {
         // Make closed true, therefore poll function stops polling, and make stop operation thread-safe
         closed.set(true);
         this.kafkaConsumer.wakeup();
-        final Runnable stopFunction = () -> this.kafkaConsumer.close();
-        this.executorService.schedule(stopFunction, 0, TimeUnit.MILLISECONDS);
-        this.executorService.shutdown();
+        if (Objects.nonNull(this.pollingThread)) {
+            LockSupport.unpark(this.pollingThread);
+        }
+        final Runnable stopFunction = () -> {
+            // Let the batch being processed complete, and commit it before closing the consumer.
+            joinPollingThread(0);
+            stopDispatcher(false);
+            synchronized (this.kafkaConsumer) {
+                if (this.decoupleProcessing) {
+                    stageProcessedBatches();
+                }
+                this.commitManager.commitSync();
+                this.kafkaConsumer.close();
+            }
+            KafkaMetricsUtil.evictClientMetrics(KafkaObservabilityConstants.CONTEXT_CONSUMER, clientId,
+                                                bootstrapServers);
+        };
+        Thread.ofVirtual().name("kafka-closer-" + this.serviceId + "-" + this.consumerId).start(stopFunction);
     }
 
     /**
-     * Stops Kafka consumer polling cycles, forcefully shutdowns scheduled thread pool and closes the consumer instance.
+     * Stops Kafka consumer polling cycles, forcefully interrupts the polling thread and closes the consumer instance.
      */
     public void immediateStopConsume() {
         // Make closed true, therefore poll function stops polling, and make stop operation thread-safe
         closed.set(true);
         this.kafkaConsumer.wakeup();
-        this.pollTaskFuture.cancel(true);
-        this.executorService.shutdownNow();
-        try {
-            this.executorService.awaitTermination(stopTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            // (Re-)Cancel if current thread also interrupted
-            this.executorService.shutdownNow();
-            // Preserve interrupt status
-            Thread.currentThread().interrupt();
-        }
+        interruptPollingThread();
+        stopDispatcher(true);
         this.kafkaConsumer.close(Duration.ofMillis(0));
+        KafkaMetricsUtil.evictClientMetrics(KafkaObservabilityConstants.CONTEXT_CONSUMER, clientId, bootstrapServers);
     }
 
     /**
-     * Stops Kafka consumer polling cycles and forcefully shutdowns scheduled thread pool.
+     * Stops Kafka consumer polling cycles and forcefully interrupts the polling thread.
      */
     public void stopScheduledPollTask() {
         closed.set(true);
         this.kafkaConsumer.wakeup();
-        this.pollTaskFuture.cancel(true);
-        this.executorService.shutdownNow();
+        interruptPollingThread();
+        stopDispatcher(true);
+        this.kafkaConsumer.unsubscribe();
+    }
+
+    private void interruptPollingThread() {
+        if (Objects.isNull(this.pollingThread)) {
+            return;
+        }
+        this.pollingThread.interrupt();
+        joinPollingThread(stopTimeout);
+    }
+
+    private void joinPollingThread(long timeout) {
+        if (Objects.isNull(this.pollingThread)) {
+            return;
+        }
         try {
-            this.executorService.awaitTermination(stopTimeout, TimeUnit.MILLISECONDS);
+            this.pollingThread.join(timeout);
         } catch (InterruptedException e) {
-            this.executorService.shutdownNow();
+            // Preserve interrupt status
             Thread.currentThread().interrupt();
         }
-        this.kafkaConsumer.unsubscribe();
+    }
+
+    private void stopDispatcher(boolean interrupt) {
+        if (Objects.isNull(this.dispatcherThread)) {
+            return;
+        }
+        // Batches which are not dispatched yet are discarded, and consumed again once the consumer is restarted.
+        this.polledBatches.clear();
+        if (interrupt) {
+            this.dispatcherThread.interrupt();
+        }
+        try {
+            this.dispatcherThread.join(stopTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Batch of records polled ahead, along with the epoch in which it was polled.
+     */
+    private static class PolledBatch {
+
+        private final ConsumerRecords records;
+        private final int epoch;
+
+        PolledBatch(ConsumerRecords records, int epoch) {
+            this.records = records;
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * Commits the processed records synchronously before the partitions are revoked, and forgets the positions of the
+     * revoked partitions as they may be reassigned from a different position. Partitions assigned while the consumer
+     * is back-pressured are paused.
+     */
+    private class CommittingRebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            forgetPartitions(partitions);
+            if (decoupleProcessing) {
+                stageProcessedBatches();
+            }
+            commitManager.commitSync(partitions);
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            // Lost partitions are owned by another consumer already, hence their offsets cannot be committed.
+            forgetPartitions(partitions);
+            if (decoupleProcessing) {
+                stageProcessedBatches();
+            }
+            commitManager.discard(partitions);
+        }
+
+        private void forgetPartitions(Collection<TopicPartition> partitions) {
+            discardAccumulatedRecords(partitions);
+            backPressuredPartitions.removeAll(partitions);
+            partitions.forEach(offsetTrackers::remove);
+            if (decoupleProcessing) {
+                partitions.forEach(nextOffsets::remove);
+            }
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            // Partitions assigned while the consumer is back-pressured are paused before they are fetched.
+            if (backPressured) {
+                pauseAssignedPartitions(partitions);
+            }
+        }
     }
 }
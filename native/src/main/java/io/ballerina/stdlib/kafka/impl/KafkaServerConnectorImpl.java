@@ -22,6 +22,7 @@ import io.ballerina.stdlib.kafka.api.KafkaListener;
 import io.ballerina.stdlib.kafka.api.KafkaServerConnector;
 import io.ballerina.stdlib.kafka.exceptions.KafkaConnectorException;
 import io.ballerina.stdlib.kafka.utils.KafkaConstants;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.KafkaException;
 
@@ -54,6 +55,15 @@ public class KafkaServerConnectorImpl implements KafkaServerConnector {
             throw new KafkaConnectorException(
                     "Number of Concurrent consumers should be a positive integer value greater than zero.");
         }
+        Object maxInFlightBatches = configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES.getValue());
+        if (maxInFlightBatches != null && (Integer) maxInFlightBatches <= 0) {
+            throw new KafkaConnectorException(
+                    "Maximum number of in-flight batches should be a positive integer value greater than zero.");
+        }
+        Object backPressureTimeout = configParams.get(KafkaConstants.ALIAS_BACK_PRESSURE_TIMEOUT.getValue());
+        if (backPressureTimeout != null && (Integer) backPressureTimeout <= 0) {
+            throw new KafkaConnectorException("Back-pressure timeout should be a positive value greater than zero.");
+        }
         this.configParams = configParams;
         this.kafkaConsumer = kafkaConsumer;
     }
@@ -66,8 +76,16 @@ public class KafkaServerConnectorImpl implements KafkaServerConnector {
         try {
             this.messageConsumers = new ArrayList<>();
             for (int counter = 0; counter < numOfConcurrentConsumers; counter++) {
-                KafkaRecordConsumer consumer = new KafkaRecordConsumer(this.kafkaListener, this.configParams,
-                                                                       this.serviceId, counter, this.kafkaConsumer);
+                // The consumer of the listener is used by the first record consumer, while each of the other record
+                // consumers creates its own consumer, as a consumer cannot be polled concurrently.
+                KafkaRecordConsumer consumer;
+                if (counter == 0) {
+                    consumer = new KafkaRecordConsumer(this.kafkaListener, this.configParams, this.serviceId, counter,
+                                                       this.kafkaConsumer);
+                } else {
+                    consumer = new KafkaRecordConsumer(this.kafkaListener, getConsumerConfigs(counter),
+                                                       this.serviceId, counter, null);
+                }
                 this.messageConsumers.add(consumer);
                 consumer.consume();
             }
@@ -77,6 +95,25 @@ public class KafkaServerConnectorImpl implements KafkaServerConnector {
         }
     }
 
+    /**
+     * Returns the configurations of a record consumer, with the client ID and the group instance ID made unique to the
+     * record consumer, so that its group membership and metrics are tracked separately.
+     *
+     * @param consumerId ID of the record consumer
+     * @return configurations of the record consumer
+     */
+    private Properties getConsumerConfigs(int consumerId) {
+        Properties consumerConfigs = new Properties();
+        consumerConfigs.putAll(this.configParams);
+        for (String config : new String[]{ConsumerConfig.CLIENT_ID_CONFIG, ConsumerConfig.GROUP_INSTANCE_ID_CONFIG}) {
+            Object value = consumerConfigs.get(config);
+            if (value != null) {
+                consumerConfigs.put(config, value + "-" + consumerId);
+            }
+        }
+        return consumerConfigs;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.impl;
+
+import io.ballerina.stdlib.kafka.api.KafkaOffsetHandler;
+import io.ballerina.stdlib.kafka.utils.KafkaConsumerOffsetHandler;
+import io.ballerina.stdlib.kafka.utils.PartitionOffset;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code KafkaStagingOffsetHandler} stages the offsets of a bound batch in the commit manager of the listener consumer
+ * instead of committing them right away, while the polling thread is waiting for the batch to be processed.
+ */
+public class KafkaStagingOffsetHandler implements KafkaOffsetHandler {
+
+    private final KafkaConsumer consumer;
+    private final KafkaCommitManager commitManager;
+
+    public KafkaStagingOffsetHandler(KafkaConsumer consumer, KafkaCommitManager commitManager) {
+        this.consumer = consumer;
+        this.commitManager = commitManager;
+    }
+
+    @Override
+    public void seek(TopicPartition topicPartition, long offset) {
+        synchronized (consumer) {
+            if (consumer.assignment().contains(topicPartition)) {
+                consumer.seek(topicPartition, offset);
+            }
+        }
+    }
+
+    @Override
+    public void commit(Map<String, PartitionOffset> partitionOffsets) {
+        commitManager.stage(KafkaConsumerOffsetHandler.getOffsetsFromMap(partitionOffsets));
+        synchronized (consumer) {
+            // Partitions may be revoked while the batch is processed, as the consumer is polled meanwhile.
+            Set<TopicPartition> assignment = consumer.assignment();
+            for (PartitionOffset partitionOffset : partitionOffsets.values()) {
+                if (assignment.contains(partitionOffset.getTopicPartition())) {
+                    consumer.seek(partitionOffset.getTopicPartition(), partitionOffset.getOffset() + 1);
+                }
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ package io.ballerina.stdlib.kafka.nativeimpl.consumer;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
@@ -28,6 +29,8 @@ import io.ballerina.stdlib.kafka.observability.KafkaMetricsUtil;
 import io.ballerina.stdlib.kafka.observability.KafkaObservabilityConstants;
 import io.ballerina.stdlib.kafka.observability.KafkaTracingUtil;
 import io.ballerina.stdlib.kafka.utils.KafkaConstants;
+import io.ballerina.stdlib.kafka.utils.KafkaRecordBinderCache;
+import io.ballerina.stdlib.kafka.utils.KafkaRecordDeserializer;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.TopicPartition;
@@ -47,6 +50,8 @@ import static io.ballerina.stdlib.kafka.utils.KafkaConstants.DURATION_UNDEFINED_
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_SERVERS;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_CONSUMER_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_RECORD_BINDER_CACHE;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_RECORD_DESERIALIZER;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.UNCHECKED;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getClientIdFromProperties;
@@ -114,9 +119,18 @@ public class BrokerConnection {
         Object bootStrapServers = consumerObject.get(CONSUMER_BOOTSTRAP_SERVERS_CONFIG);
         BMap<BString, Object> configs = consumerObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME);
         Properties consumerProperties = processKafkaConsumerConfig(bootStrapServers, configs);
+        KafkaRecordDeserializer recordDeserializer;
+        try {
+            recordDeserializer = KafkaRecordDeserializer.create(configs);
+        } catch (BError e) {
+            return e;
+        }
         try {
             KafkaConsumer kafkaConsumer = new KafkaConsumer<>(consumerProperties);
             consumerObject.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
+            consumerObject.addNativeData(NATIVE_RECORD_DESERIALIZER, recordDeserializer);
+            consumerObject.addNativeData(NATIVE_RECORD_BINDER_CACHE,
+                                         new KafkaRecordBinderCache(consumerObject, recordDeserializer));
             consumerObject.addNativeData(NATIVE_CONSUMER_CONFIG, consumerProperties);
             consumerObject.addNativeData(BOOTSTRAP_SERVERS, consumerProperties.getProperty(BOOTSTRAP_SERVERS));
             consumerObject.addNativeData(KafkaConstants.CLIENT_ID, getClientIdFromProperties(consumerProperties));
@@ -21,8 +21,6 @@ package io.ballerina.stdlib.kafka.nativeimpl.consumer;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.IntersectionType;
-import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
@@ -32,6 +30,8 @@ import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.kafka.observability.KafkaMetricsUtil;
 import io.ballerina.stdlib.kafka.observability.KafkaObservabilityConstants;
 import io.ballerina.stdlib.kafka.observability.KafkaTracingUtil;
+import io.ballerina.stdlib.kafka.utils.KafkaUtils.ConsumerRecordBinder;
+import io.ballerina.stdlib.kafka.utils.KafkaUtils.PayloadBinder;
 import io.ballerina.stdlib.kafka.utils.ModuleUtils;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -43,15 +43,14 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 
-import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
-import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSTRAINT_VALIDATION;
-import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_CONFIG_FIELD_NAME;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getAutoCommitConfig;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getAutoSeekOnErrorConfig;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getConsumerRecords;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getMilliSeconds;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getParallelBindingThresholdConfig;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getRecordBinderCache;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getValuesWithIntendedType;
 
 /**
@@ -66,20 +65,20 @@ public class Poll {
         KafkaTracingUtil.traceResourceInvocation(env, consumerObject);
         CompletableFuture<Object> balFuture = new CompletableFuture<>();
         KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
-        RecordType recordType = getRecordType(bTypedesc);
         Thread.startVirtualThread(() -> {
             try {
                 Duration duration = Duration.ofMillis(getMilliSeconds(timeout));
-                boolean constraintValidation = (boolean) consumerObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME)
-                        .get(CONSTRAINT_VALIDATION);
+                ConsumerRecordBinder binder = getRecordBinderCache(consumerObject)
+                        .getConsumerRecordBinder(bTypedesc.getDescribingType());
                 boolean autoCommit = getAutoCommitConfig(consumerObject);
                 boolean autoSeek = getAutoSeekOnErrorConfig(consumerObject);
                 BArray consumerRecords;
                 synchronized (kafkaConsumer) {
                     ConsumerRecords recordsRetrieved = kafkaConsumer.poll(duration);
-                    consumerRecords = getConsumerRecords(recordsRetrieved, recordType,
-                            bTypedesc.getDescribingType().isReadOnly(), constraintValidation, autoCommit,
-                            kafkaConsumer, autoSeek);
+                    KafkaMetricsUtil.reportConsumerLag(consumerObject, kafkaConsumer);
+                    KafkaMetricsUtil.reportRecordAge(consumerObject, recordsRetrieved);
+                    consumerRecords = getConsumerRecords(recordsRetrieved, binder, autoCommit, kafkaConsumer, autoSeek,
+                            getParallelBindingThresholdConfig(consumerObject));
                 }
                 balFuture.complete(consumerRecords);
             } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
@@ -102,16 +101,18 @@ public class Poll {
                 Duration duration = Duration.ofMillis(getMilliSeconds(timeout));
                 ArrayType arrayType = (ArrayType) TypeUtils.getImpliedType(bTypedesc.getDescribingType());
                 BArray dataArray = ValueCreator.createArrayValue(arrayType);
-                boolean constraintValidation = (boolean) consumerObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME)
-                        .get(CONSTRAINT_VALIDATION);
+                PayloadBinder binder = getRecordBinderCache(consumerObject)
+                        .getPayloadBinder(bTypedesc.getDescribingType());
                 boolean autoCommit = getAutoCommitConfig(consumerObject);
                 boolean autoSeek = getAutoSeekOnErrorConfig(consumerObject);
                 ConsumerRecords recordsRetrieved;
                 synchronized (kafkaConsumer) {
                     recordsRetrieved = kafkaConsumer.poll(duration);
+                    KafkaMetricsUtil.reportConsumerLag(consumerObject, kafkaConsumer);
+                    KafkaMetricsUtil.reportRecordAge(consumerObject, recordsRetrieved);
                     if (!recordsRetrieved.isEmpty()) {
-                        dataArray = getValuesWithIntendedType(arrayType, kafkaConsumer, recordsRetrieved,
-                                constraintValidation, autoCommit, autoSeek);
+                        dataArray = getValuesWithIntendedType(recordsRetrieved, binder, autoCommit, kafkaConsumer,
+                                autoSeek, getParallelBindingThresholdConfig(consumerObject));
                     }
                 }
                 balFuture.complete(dataArray);
@@ -126,19 +127,6 @@ public class Poll {
         return ModuleUtils.getResult(balFuture);
     }
 
-    private static RecordType getRecordType(BTypedesc bTypedesc) {
-        RecordType recordType;
-        if (bTypedesc.getDescribingType().isReadOnly()) {
-            recordType = (RecordType) getReferredType(((IntersectionType) getReferredType(((ArrayType)
-                    TypeUtils.getImpliedType(bTypedesc.getDescribingType())).getElementType()))
-                    .getConstituentTypes().get(0));
-        } else {
-            recordType = (RecordType) getReferredType(
-                    ((ArrayType) getReferredType(bTypedesc.getDescribingType())).getElementType());
-        }
-        return recordType;
-    }
-
     static class KafkaThreadFactory implements ThreadFactory {
 
         @Override
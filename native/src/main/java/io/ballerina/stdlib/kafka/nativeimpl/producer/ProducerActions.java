@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
@@ -30,6 +31,7 @@ import io.ballerina.stdlib.kafka.impl.KafkaTransactionContext;
 import io.ballerina.stdlib.kafka.observability.KafkaMetricsUtil;
 import io.ballerina.stdlib.kafka.observability.KafkaObservabilityConstants;
 import io.ballerina.stdlib.kafka.observability.KafkaTracingUtil;
+import io.ballerina.stdlib.kafka.utils.KafkaRecordSerializer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.KafkaException;
@@ -40,6 +42,7 @@ import java.util.Objects;
 import java.util.Properties;
 
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_PRODUCER;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_RECORD_SERIALIZER;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PRODUCER_BOOTSTRAP_SERVERS_CONFIG;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PRODUCER_CONFIG_FIELD_NAME;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.TRANSACTION_CONTEXT;
@@ -66,6 +69,11 @@ public class ProducerActions {
         Object bootstrapServer = producerObject.get(PRODUCER_BOOTSTRAP_SERVERS_CONFIG);
         BMap<BString, Object> configs = producerObject.getMapValue(PRODUCER_CONFIG_FIELD_NAME);
         Properties producerProperties = processKafkaProducerConfig(bootstrapServer, configs);
+        try {
+            producerObject.addNativeData(NATIVE_RECORD_SERIALIZER, KafkaRecordSerializer.create(configs));
+        } catch (BError e) {
+            return e;
+        }
         try {
             if (Objects.nonNull(producerProperties.get(ProducerConfig.TRANSACTIONAL_ID_CONFIG))) {
                 if (!((boolean) producerProperties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG))) {
@@ -19,7 +19,12 @@
 package io.ballerina.stdlib.kafka.nativeimpl.producer;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.transactions.TransactionResourceManager;
 import io.ballerina.stdlib.kafka.observability.KafkaMetricsUtil;
 import io.ballerina.stdlib.kafka.observability.KafkaObservabilityConstants;
@@ -27,17 +32,23 @@ import io.ballerina.stdlib.kafka.observability.KafkaTracingUtil;
 import io.ballerina.stdlib.kafka.utils.ModuleUtils;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.KafkaException;
 
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.ALIAS_OFFSET;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.ALIAS_PARTITION;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.ALIAS_TOPIC;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_TIMESTAMP;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_PRODUCER;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_SEND_RESULT;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.RECORD_METADATA_STRUCT_NAME;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.SEND_HANDLE_OBJECT_NAME;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.UNCHECKED;
 import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaRecord;
 import static io.ballerina.stdlib.kafka.utils.TransactionUtils.handleTransactions;
 
 /**
@@ -45,43 +56,78 @@ import static io.ballerina.stdlib.kafka.utils.TransactionUtils.handleTransaction
  */
 public class Send {
 
-    private static final ExecutorService executorService = Executors.newCachedThreadPool(new KafkaThreadFactory());
-
-    @SuppressWarnings(UNCHECKED)
     protected static Object sendKafkaRecord(Environment env, ProducerRecord record, BObject producerObject) {
         KafkaTracingUtil.traceResourceInvocation(env, producerObject, record.topic());
         final CompletableFuture<Object> balFuture = new CompletableFuture<>();
+        sendRecord(producerObject, record, balFuture, false);
+        return ModuleUtils.getResult(balFuture);
+    }
+
+    /**
+     * Sends a record without waiting for it to be acknowledged. The returned {@code SendHandle} is completed with the
+     * metadata of the record once it is acknowledged, or with an error if it fails to be sent.
+     *
+     * @param env            Ballerina environment
+     * @param record         record to be sent
+     * @param producerObject producer sending the record
+     * @return {@code SendHandle} of the record, or an error if the record cannot be sent
+     */
+    protected static Object sendKafkaRecordAsync(Environment env, ProducerRecord record, BObject producerObject) {
+        KafkaTracingUtil.traceResourceInvocation(env, producerObject, record.topic());
+        final CompletableFuture<Object> sendResult = new CompletableFuture<>();
+        sendRecord(producerObject, record, sendResult, true);
+        if (sendResult.isDone() && sendResult.join() instanceof BError) {
+            return sendResult.join();
+        }
+        BObject sendHandle = ValueCreator.createObjectValue(ModuleUtils.getModule(), SEND_HANDLE_OBJECT_NAME);
+        sendHandle.addNativeData(NATIVE_SEND_RESULT, sendResult);
+        return sendHandle;
+    }
+
+    // The records are handed to the producer from the calling strand, so that the records sent one after the other
+    // are appended to the batch of their partition in the same order. The producer returns as soon as the record is
+    // appended, unless its buffer is full or the metadata of the topic is not fetched yet, for which it blocks for at
+    // most the configured maxBlock.
+    private static void sendRecord(BObject producerObject, ProducerRecord record, CompletableFuture<Object> sendResult,
+                                   boolean populateMetadata) {
         KafkaProducer producer = (KafkaProducer) producerObject.getNativeData(NATIVE_PRODUCER);
         if (TransactionResourceManager.getInstance().isInTransaction()) {
             handleTransactions(producerObject);
         }
-        Thread.startVirtualThread(() -> {
-            try {
-                producer.send(record, (metadata, e) -> {
-                    if (Objects.nonNull(e)) {
-                        KafkaMetricsUtil.reportProducerError(producerObject,
-                                KafkaObservabilityConstants.ERROR_TYPE_PUBLISH);
-                        balFuture.complete(createKafkaError("Failed to send data to Kafka server: " + e.getMessage()));
-                    } else {
-                        KafkaMetricsUtil.reportPublish(producerObject, record.topic(), record.value());
-                        balFuture.complete(null);
-                    }
-                });
-            } catch (IllegalStateException | KafkaException e) {
-                KafkaMetricsUtil.reportProducerError(producerObject, KafkaObservabilityConstants.ERROR_TYPE_PUBLISH);
-                balFuture.complete(createKafkaError("Failed to send data to Kafka server: " + e.getMessage()));
-            }
-        });
-        return ModuleUtils.getResult(balFuture);
+        sendRecord(producerObject, producer, record, sendResult, populateMetadata);
     }
 
-    static class KafkaThreadFactory implements ThreadFactory {
+    @SuppressWarnings(UNCHECKED)
+    protected static void sendRecord(BObject producerObject, KafkaProducer producer, ProducerRecord record,
+                                   CompletableFuture<Object> sendResult, boolean populateMetadata) {
+        try {
+            producer.send(record, (metadata, e) -> {
+                if (Objects.nonNull(e)) {
+                    KafkaMetricsUtil.reportProducerError(producerObject,
+                            KafkaObservabilityConstants.ERROR_TYPE_PUBLISH);
+                    sendResult.complete(createKafkaError("Failed to send data to Kafka server: " + e.getMessage()));
+                } else {
+                    KafkaMetricsUtil.reportPublish(producerObject, record.topic(),
+                                                   Math.max(metadata.serializedValueSize(), 0));
+                    sendResult.complete(populateMetadata ? populateRecordMetadataRecord(metadata) : null);
+                }
+            });
+        } catch (IllegalStateException | KafkaException e) {
+            KafkaMetricsUtil.reportProducerError(producerObject, KafkaObservabilityConstants.ERROR_TYPE_PUBLISH);
+            sendResult.complete(createKafkaError("Failed to send data to Kafka server: " + e.getMessage()));
+        }
+    }
 
-        @Override
-        public Thread newThread(Runnable r) {
-            Thread kafkaProducerThread = new Thread(r);
-            kafkaProducerThread.setName("balx-kafka-producer-network-thread");
-            return kafkaProducerThread;
+    protected static BMap<BString, Object> populateRecordMetadataRecord(RecordMetadata metadata) {
+        BMap<BString, Object> recordMetadata = createKafkaRecord(RECORD_METADATA_STRUCT_NAME);
+        recordMetadata.put(ALIAS_TOPIC, StringUtils.fromString(metadata.topic()));
+        recordMetadata.put(ALIAS_PARTITION, (long) metadata.partition());
+        if (metadata.hasOffset()) {
+            recordMetadata.put(ALIAS_OFFSET, metadata.offset());
+        }
+        if (metadata.hasTimestamp()) {
+            recordMetadata.put(KAFKA_RECORD_TIMESTAMP, metadata.timestamp());
         }
+        return recordMetadata;
     }
 }
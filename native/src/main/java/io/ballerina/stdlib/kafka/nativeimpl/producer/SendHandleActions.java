@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.nativeimpl.producer;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.kafka.utils.ModuleUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_SEND_RESULT;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.UNCHECKED;
+
+/**
+ * Native methods to handle the records sent asynchronously by the ballerina kafka producer.
+ */
+public class SendHandleActions {
+
+    /**
+     * Waits until the record of the send handle is acknowledged or fails to be sent.
+     *
+     * @param sendHandle send handle of the record
+     * @return {@code RecordMetadata} of the record, or an error if the record failed to be sent
+     */
+    public static Object waitForResult(BObject sendHandle) {
+        return ModuleUtils.getResult(getSendResult(sendHandle));
+    }
+
+    /**
+     * Checks whether the record of the send handle is acknowledged or failed to be sent.
+     *
+     * @param sendHandle send handle of the record
+     * @return true if the record is acknowledged or failed to be sent, false otherwise
+     */
+    public static boolean isDone(BObject sendHandle) {
+        return getSendResult(sendHandle).isDone();
+    }
+
+    /**
+     * Registers a function to be called once the record of the send handle is acknowledged or fails to be sent. The
+     * function is called right away if the record is already acknowledged or failed to be sent.
+     *
+     * @param env        Ballerina environment
+     * @param sendHandle send handle of the record
+     * @param callback   function to be called with the {@code RecordMetadata} of the record or the error
+     */
+    public static void onComplete(Environment env, BObject sendHandle, BFunctionPointer callback) {
+        // The callback is not run on the producer network thread, which would block sending the other records.
+        getSendResult(sendHandle).thenAccept(result -> Thread.startVirtualThread(() -> {
+            try {
+                callback.call(env.getRuntime(), result);
+            } catch (BError bError) {
+                bError.printStackTrace();
+            }
+        }));
+    }
+
+    @SuppressWarnings(UNCHECKED)
+    private static CompletableFuture<Object> getSendResult(BObject sendHandle) {
+        return (CompletableFuture<Object>) sendHandle.getNativeData(NATIVE_SEND_RESULT);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.nativeimpl.producer;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.kafka.observability.KafkaTracingUtil;
+import io.ballerina.stdlib.kafka.utils.KafkaRecordSerializer;
+import io.ballerina.stdlib.kafka.utils.ModuleUtils;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.ALIAS_PARTITION;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.ALIAS_TOPIC;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_HEADERS;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_KEY;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_TIMESTAMP;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_VALUE;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_PRODUCER;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_RECORD_SERIALIZER;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.RECORD_METADATA_STRUCT_NAME;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.UNCHECKED;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaRecord;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getIntValue;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.getLongValue;
+import static io.ballerina.stdlib.kafka.utils.TransactionUtils.handleTransactions;
+
+/**
+ * Native methods to send a batch of {@code AnydataProducerRecord} records to Kafka broker from ballerina kafka
+ * producer in a single call.
+ */
+public class SendProducerRecords extends Send {
+
+    private static final Logger logger = LoggerFactory.getLogger(SendProducerRecords.class);
+    private static final BString PRODUCER_RECORD_KEY = StringUtils.fromString(KAFKA_RECORD_KEY);
+    private static final BString PRODUCER_RECORD_VALUE = StringUtils.fromString(KAFKA_RECORD_VALUE);
+    private static volatile ArrayType resultsType;
+
+    /**
+     * Sends all the given records, and waits until each of them is acknowledged or fails to be sent. The records are
+     * handed to the producer without waiting for the earlier ones, hence they are batched per partition as usual.
+     *
+     * @param env             Ballerina environment
+     * @param producerObject  producer sending the records
+     * @param producerRecords records to be sent
+     * @return {@code RecordMetadata} or the error of each record, in the order of the records
+     */
+    @SuppressWarnings(UNCHECKED)
+    public static BArray sendAll(Environment env, BObject producerObject, BArray producerRecords) {
+        int recordCount = producerRecords.size();
+        Object[] recordResults = new Object[recordCount];
+        if (recordCount == 0) {
+            return ValueCreator.createArrayValue(recordResults, getResultsType());
+        }
+        KafkaProducer producer = (KafkaProducer) producerObject.getNativeData(NATIVE_PRODUCER);
+        KafkaRecordSerializer recordSerializer = getRecordSerializer(producerObject);
+        if (TransactionResourceManager.getInstance().isInTransaction()) {
+            handleTransactions(producerObject);
+        }
+        ProducerRecord<byte[], byte[]>[] kafkaRecords = new ProducerRecord[recordCount];
+        CompletableFuture<Object>[] sendResults = new CompletableFuture[recordCount];
+        Set<String> topics = new LinkedHashSet<>();
+        for (int i = 0; i < recordCount; i++) {
+            try {
+                kafkaRecords[i] = createProducerRecord(recordSerializer,
+                        (BMap<BString, Object>) producerRecords.get(i));
+                topics.add(kafkaRecords[i].topic());
+                sendResults[i] = new CompletableFuture<>();
+            } catch (BError e) {
+                sendResults[i] = CompletableFuture.completedFuture(e);
+            }
+        }
+        if (topics.isEmpty()) {
+            KafkaTracingUtil.traceResourceInvocation(env, producerObject);
+        } else {
+            KafkaTracingUtil.traceResourceInvocation(env, producerObject, String.join(",", topics));
+        }
+        for (int i = 0; i < recordCount; i++) {
+            if (Objects.nonNull(kafkaRecords[i])) {
+                sendRecord(producerObject, producer, kafkaRecords[i], sendResults[i], true);
+            }
+        }
+        ModuleUtils.getResult(CompletableFuture.allOf(sendResults).thenApply(completed -> null));
+        for (int i = 0; i < recordCount; i++) {
+            recordResults[i] = sendResults[i].join();
+        }
+        return ValueCreator.createArrayValue(recordResults, getResultsType());
+    }
+
+    // Resolved on the first call, as the types of the module are not available before the module is initialized.
+    private static ArrayType getResultsType() {
+        if (Objects.isNull(resultsType)) {
+            resultsType = TypeCreator.createArrayType(TypeCreator.createUnionType(
+                    createKafkaRecord(RECORD_METADATA_STRUCT_NAME).getType(),
+                    TypeUtils.getType(createKafkaError(""))));
+        }
+        return resultsType;
+    }
+
+    private static ProducerRecord<byte[], byte[]> createProducerRecord(KafkaRecordSerializer recordSerializer,
+                                                                       BMap<BString, Object> producerRecord) {
+        String topic = producerRecord.getStringValue(ALIAS_TOPIC).getValue();
+        Object key = producerRecord.get(PRODUCER_RECORD_KEY);
+        return new ProducerRecord<>(topic,
+                getIntValue(producerRecord.get(ALIAS_PARTITION), ALIAS_PARTITION, logger),
+                getLongValue(producerRecord.get(KAFKA_RECORD_TIMESTAMP)),
+                Objects.isNull(key) ? null : recordSerializer.serializeKey(topic, key),
+                recordSerializer.serializeValue(topic, producerRecord.get(PRODUCER_RECORD_VALUE)),
+                getHeaders((BMap<BString, Object>) producerRecord.get(KAFKA_RECORD_HEADERS)));
+    }
+
+    /**
+     * Sends a record, and waits until it is acknowledged or fails to be sent. The key and the value are serialized
+     * with the serializers selected for the topic in the producer configuration.
+     *
+     * @param env            Ballerina environment
+     * @param producerObject producer sending the record
+     * @param producerRecord record to be sent
+     * @return {@code BError} if the record cannot be serialized or sent, else {@code null}
+     */
+    public static Object sendAnydataRecord(Environment env, BObject producerObject,
+                                           BMap<BString, Object> producerRecord) {
+        ProducerRecord<byte[], byte[]> kafkaRecord;
+        try {
+            kafkaRecord = createProducerRecord(getRecordSerializer(producerObject), producerRecord);
+        } catch (BError e) {
+            return e;
+        }
+        return sendKafkaRecord(env, kafkaRecord, producerObject);
+    }
+
+    /**
+     * Sends a record without waiting for it to be acknowledged. The key and the value are serialized with the
+     * serializers selected for the topic in the producer configuration.
+     *
+     * @param env            Ballerina environment
+     * @param producerObject producer sending the record
+     * @param producerRecord record to be sent
+     * @return {@code SendHandle} of the record, or a {@code BError} if the record cannot be serialized or sent
+     */
+    public static Object sendAnydataRecordAsync(Environment env, BObject producerObject,
+                                                BMap<BString, Object> producerRecord) {
+        ProducerRecord<byte[], byte[]> kafkaRecord;
+        try {
+            kafkaRecord = createProducerRecord(getRecordSerializer(producerObject), producerRecord);
+        } catch (BError e) {
+            return e;
+        }
+        return sendKafkaRecordAsync(env, kafkaRecord, producerObject);
+    }
+
+    private static KafkaRecordSerializer getRecordSerializer(BObject producerObject) {
+        return (KafkaRecordSerializer) producerObject.getNativeData(NATIVE_RECORD_SERIALIZER);
+    }
+
+    private static List<Header> getHeaders(BMap<BString, Object> headerMap) {
+        List<Header> headers = new ArrayList<>();
+        if (Objects.isNull(headerMap)) {
+            return headers;
+        }
+        for (Map.Entry<BString, Object> header : headerMap.entrySet()) {
+            String headerKey = header.getKey().getValue();
+            Object headerValue = header.getValue();
+            if (headerValue instanceof BString) {
+                headers.add(new RecordHeader(headerKey,
+                        ((BString) headerValue).getValue().getBytes(StandardCharsets.UTF_8)));
+            } else if (isArrayOf((BArray) headerValue, TypeTags.BYTE_TAG)) {
+                headers.add(new RecordHeader(headerKey, ((BArray) headerValue).getBytes()));
+            } else {
+                // Each of the values of byte[][] and string[] headers is sent as a separate header.
+                BArray headerValues = (BArray) headerValue;
+                for (int i = 0; i < headerValues.size(); i++) {
+                    Object value = headerValues.get(i);
+                    headers.add(new RecordHeader(headerKey, value instanceof BString
+                            ? ((BString) value).getValue().getBytes(StandardCharsets.UTF_8)
+                            : ((BArray) value).getBytes()));
+                }
+            }
+        }
+        return headers;
+    }
+
+    private static boolean isArrayOf(BArray array, int elementTypeTag) {
+        return TypeUtils.getReferredType(array.getElementType()).getTag() == elementTypeTag;
+    }
+}
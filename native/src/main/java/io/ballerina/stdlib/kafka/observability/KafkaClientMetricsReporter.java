@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.observability;
+
+import io.ballerina.stdlib.kafka.utils.KafkaConstants;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.MetricsReporter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@code KafkaClientMetricsReporter} reports a selected set of the metrics of a Kafka client to the Ballerina metric
+ * registry. The metrics are sampled periodically on a background thread, hence reporting them adds nothing to the
+ * producing and consuming paths. Metrics which are specific to a broker node are left out.
+ */
+public class KafkaClientMetricsReporter implements MetricsReporter {
+
+    static final Set<String> DEFAULT_METRICS = Set.of(
+            // Consumer metrics
+            "records-lag-max", "fetch-latency-avg", "fetch-rate", "fetch-size-avg", "records-per-request-avg",
+            "records-consumed-rate", "bytes-consumed-rate", "commit-latency-avg",
+            // Producer metrics
+            "record-queue-time-avg", "batch-size-avg", "compression-rate-avg", "request-latency-avg",
+            "record-send-rate", "record-error-rate", "record-retry-rate", "buffer-available-bytes");
+    private static final long DEFAULT_SAMPLE_INTERVAL_MS = 10000;
+    private static final String TAG_NODE_ID = "node-id";
+    private static final ScheduledExecutorService SAMPLER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread sampler = new Thread(runnable);
+        sampler.setName("balx-kafka-client-metrics-sampler");
+        sampler.setDaemon(true);
+        return sampler;
+    });
+
+    private final Map<MetricName, KafkaMetric> metrics = new ConcurrentHashMap<>();
+    private Set<String> metricNames = DEFAULT_METRICS;
+    private long sampleInterval = DEFAULT_SAMPLE_INTERVAL_MS;
+    private String clientId;
+    private String bootstrapServers;
+    private ScheduledFuture<?> sampling;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        this.clientId = String.valueOf(configs.get(CommonClientConfigs.CLIENT_ID_CONFIG));
+        this.bootstrapServers = String.valueOf(configs.get(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG));
+        Object configuredMetrics = configs.get(KafkaConstants.CLIENT_METRICS);
+        if (Objects.nonNull(configuredMetrics)) {
+            this.metricNames = Arrays.stream(configuredMetrics.toString().split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+        Object configuredInterval = configs.get(KafkaConstants.CLIENT_METRICS_SAMPLE_INTERVAL_MS);
+        if (configuredInterval instanceof Number && ((Number) configuredInterval).longValue() > 0) {
+            this.sampleInterval = ((Number) configuredInterval).longValue();
+        }
+    }
+
+    @Override
+    public void init(List<KafkaMetric> metrics) {
+        for (KafkaMetric metric : metrics) {
+            metricChange(metric);
+        }
+        this.sampling = SAMPLER.scheduleAtFixedRate(this::sample, sampleInterval, sampleInterval,
+                                                    TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void metricChange(KafkaMetric metric) {
+        MetricName metricName = metric.metricName();
+        if (metricNames.contains(metricName.name()) && !metricName.tags().containsKey(TAG_NODE_ID)) {
+            metrics.put(metricName, metric);
+        }
+    }
+
+    @Override
+    public void metricRemoval(KafkaMetric metric) {
+        metrics.remove(metric.metricName());
+    }
+
+    @Override
+    public void close() {
+        if (Objects.nonNull(sampling)) {
+            sampling.cancel(false);
+        }
+        metrics.clear();
+    }
+
+    private void sample() {
+        for (KafkaMetric metric : metrics.values()) {
+            Object value = metric.metricValue();
+            if (value instanceof Number && Double.isFinite(((Number) value).doubleValue())) {
+                KafkaMetricsUtil.reportClientMetric(clientId, bootstrapServers, metric.metricName(),
+                                                    ((Number) value).doubleValue());
+            }
+        }
+    }
+}
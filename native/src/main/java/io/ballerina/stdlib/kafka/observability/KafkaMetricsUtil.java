@@ -20,19 +20,30 @@ package io.ballerina.stdlib.kafka.observability;
 
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
 import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
 import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import io.ballerina.stdlib.kafka.utils.KafkaUtils;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Providing metrics functionality to the Kafka connector.
@@ -42,6 +53,10 @@ import java.util.Set;
 public class KafkaMetricsUtil {
 
     private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+    private static final int NO_PARTITION = -1;
+    // Metric handles of the hot paths, resolved once per client, topic and partition.
+    private static final Map<MetricKey, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<MetricKey, Gauge> gauges = new ConcurrentHashMap<>();
 
     /**
      * Reports a new producer connection.
@@ -89,6 +104,8 @@ public class KafkaMetricsUtil {
                                                                         KafkaUtils.getBootstrapServers(producerObject));
         decrementGauge(observerContext, KafkaObservabilityConstants.METRIC_PUBLISHERS[0],
                        KafkaObservabilityConstants.METRIC_PUBLISHERS[1]);
+        evictClientMetrics(KafkaObservabilityConstants.CONTEXT_PRODUCER, KafkaUtils.getClientId(producerObject),
+                           KafkaUtils.getBootstrapServers(producerObject));
     }
 
     /**
@@ -105,6 +122,8 @@ public class KafkaMetricsUtil {
                                                                         KafkaUtils.getBootstrapServers(consumerObject));
         decrementGauge(observerContext, KafkaObservabilityConstants.METRIC_CONSUMERS[0],
                        KafkaObservabilityConstants.METRIC_CONSUMERS[1]);
+        evictClientMetrics(KafkaObservabilityConstants.CONTEXT_CONSUMER, KafkaUtils.getClientId(consumerObject),
+                           KafkaUtils.getBootstrapServers(consumerObject));
     }
 
     /**
@@ -118,12 +137,27 @@ public class KafkaMetricsUtil {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        KafkaObserverContext observerContext = new KafkaObserverContext(KafkaObservabilityConstants.CONTEXT_PRODUCER,
-                                                                        KafkaUtils.getClientId(producerObject),
-                                                                        KafkaUtils.getBootstrapServers(producerObject),
-                                                                        topic);
-        int size = getMessageSize(value);
-        reportPublish(observerContext, size);
+        reportRecords(KafkaObservabilityConstants.CONTEXT_PRODUCER, KafkaUtils.getClientId(producerObject),
+                      KafkaUtils.getBootstrapServers(producerObject), topic,
+                      KafkaObservabilityConstants.METRIC_PUBLISHED, KafkaObservabilityConstants.METRIC_PUBLISHED_SIZE,
+                      1, getMessageSize(value));
+    }
+
+    /**
+     * Reports a message being published by a Kafka producer.
+     *
+     * @param producerObject producer object.
+     * @param topic          Subject the message is published to.
+     * @param size           Serialized size of the message in bytes.
+     */
+    public static void reportPublish(BObject producerObject, String topic, long size) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        reportRecords(KafkaObservabilityConstants.CONTEXT_PRODUCER, KafkaUtils.getClientId(producerObject),
+                      KafkaUtils.getBootstrapServers(producerObject), topic,
+                      KafkaObservabilityConstants.METRIC_PUBLISHED, KafkaObservabilityConstants.METRIC_PUBLISHED_SIZE,
+                      1, size);
     }
 
     private static int getMessageSize(Object message) {
@@ -226,12 +260,10 @@ public class KafkaMetricsUtil {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        KafkaObserverContext observerContext = new KafkaObserverContext(KafkaObservabilityConstants.CONTEXT_CONSUMER,
-                                                                        KafkaUtils.getClientId(consumerObject),
-                                                                        KafkaUtils.getBootstrapServers(consumerObject),
-                                                                        topic);
-        int size = getMessageSize(value);
-        reportConsume(observerContext, size);
+        reportRecords(KafkaObservabilityConstants.CONTEXT_CONSUMER, KafkaUtils.getClientId(consumerObject),
+                      KafkaUtils.getBootstrapServers(consumerObject), topic,
+                      KafkaObservabilityConstants.METRIC_CONSUMED, KafkaObservabilityConstants.METRIC_CONSUMED_SIZE,
+                      1, getMessageSize(value));
     }
 
     /**
@@ -244,10 +276,132 @@ public class KafkaMetricsUtil {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        for (Object record : records) {
-            KafkaMetricsUtil.reportConsume(consumerObject, ((ConsumerRecord) record).topic(),
-                                           ((ConsumerRecord) record).serializedValueSize());
+        String clientId = KafkaUtils.getClientId(consumerObject);
+        String bootstrapServers = KafkaUtils.getBootstrapServers(consumerObject);
+        // The records of each partition in the batch are reported at once.
+        for (Object partition : records.partitions()) {
+            List<ConsumerRecord> partitionRecords = records.records((TopicPartition) partition);
+            long size = 0;
+            for (ConsumerRecord record : partitionRecords) {
+                size += Math.max(record.serializedValueSize(), 0);
+            }
+            reportRecords(KafkaObservabilityConstants.CONTEXT_CONSUMER, clientId, bootstrapServers,
+                          ((TopicPartition) partition).topic(), KafkaObservabilityConstants.METRIC_CONSUMED,
+                          KafkaObservabilityConstants.METRIC_CONSUMED_SIZE, partitionRecords.size(), size);
+        }
+    }
+
+    /**
+     * Reports the age of the consumed records, from their timestamps until they are dispatched.
+     *
+     * @param consumerObject Consumer object.
+     * @param records        Records
+     */
+    public static void reportRecordAge(BObject consumerObject, ConsumerRecords records) {
+        if (!ObserveUtils.isMetricsEnabled() || metricRegistry == null) {
+            return;
+        }
+        String clientId = KafkaUtils.getClientId(consumerObject);
+        String bootstrapServers = KafkaUtils.getBootstrapServers(consumerObject);
+        long dispatchTime = System.currentTimeMillis();
+        for (Object partition : records.partitions()) {
+            List<ConsumerRecord> partitionRecords = records.records((TopicPartition) partition);
+            Gauge recordAge = getGauge(KafkaObservabilityConstants.CONTEXT_CONSUMER, clientId, bootstrapServers,
+                                       ((TopicPartition) partition).topic(), NO_PARTITION,
+                                       KafkaObservabilityConstants.METRIC_RECORD_AGE, true);
+            for (ConsumerRecord record : partitionRecords) {
+                recordAge.setValue(Math.max(dispatchTime - record.timestamp(), 0));
+            }
+        }
+    }
+
+    /**
+     * Reports the lag of each partition assigned to a consumer. The lag is computed from the end offsets cached by the
+     * consumer, hence this has to be called by the thread polling the consumer.
+     *
+     * @param consumerObject Consumer object.
+     * @param kafkaConsumer  Kafka consumer of the consumer object.
+     */
+    public static void reportConsumerLag(BObject consumerObject, KafkaConsumer kafkaConsumer) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
         }
+        reportConsumerLag(KafkaUtils.getClientId(consumerObject), KafkaUtils.getBootstrapServers(consumerObject),
+                          kafkaConsumer);
+    }
+
+    /**
+     * Reports the lag of each partition assigned to a consumer. The lag is computed from the end offsets cached by the
+     * consumer, hence this has to be called by the thread polling the consumer.
+     *
+     * @param clientId         Client ID of the consumer.
+     * @param bootstrapServers Bootstrap servers of the consumer.
+     * @param kafkaConsumer    Kafka consumer.
+     */
+    public static void reportConsumerLag(String clientId, String bootstrapServers, KafkaConsumer kafkaConsumer) {
+        if (!ObserveUtils.isMetricsEnabled() || metricRegistry == null) {
+            return;
+        }
+        for (Object partition : kafkaConsumer.assignment()) {
+            TopicPartition topicPartition = (TopicPartition) partition;
+            OptionalLong lag = kafkaConsumer.currentLag(topicPartition);
+            if (lag.isPresent()) {
+                getGauge(KafkaObservabilityConstants.CONTEXT_CONSUMER, clientId, bootstrapServers,
+                         topicPartition.topic(), topicPartition.partition(),
+                         KafkaObservabilityConstants.METRIC_CONSUMER_LAG, false).setValue(lag.getAsLong());
+            }
+        }
+    }
+
+    /**
+     * Reports the time taken by a service to process the consumed records.
+     *
+     * @param consumerObject Consumer object.
+     * @param durationNanos  Time taken by the service in nanoseconds.
+     */
+    public static void reportHandlerDuration(BObject consumerObject, long durationNanos) {
+        if (!ObserveUtils.isMetricsEnabled() || metricRegistry == null) {
+            return;
+        }
+        getGauge(KafkaObservabilityConstants.CONTEXT_CONSUMER, KafkaUtils.getClientId(consumerObject),
+                 KafkaUtils.getBootstrapServers(consumerObject), null, NO_PARTITION,
+                 KafkaObservabilityConstants.METRIC_HANDLER_DURATION, true).setValue(durationNanos / 1_000_000.0);
+    }
+
+    /**
+     * Reports the time taken by a stage of the poll cycles of a listener consumer.
+     *
+     * @param clientId         Client ID of the consumer.
+     * @param bootstrapServers Bootstrap servers of the consumer.
+     * @param metric           Name and the description of the metric of the stage.
+     * @param durationNanos    Time taken by the stage in nanoseconds.
+     */
+    static void reportPollStage(String clientId, String bootstrapServers, String[] metric, long durationNanos) {
+        if (!ObserveUtils.isMetricsEnabled() || metricRegistry == null) {
+            return;
+        }
+        getGauge(KafkaObservabilityConstants.CONTEXT_CONSUMER, clientId, bootstrapServers, null, NO_PARTITION, metric,
+                 true).setValue(durationNanos / 1_000_000.0);
+    }
+
+    /**
+     * Reports the sampled value of a metric of a Kafka client.
+     *
+     * @param clientId         Client ID of the Kafka client.
+     * @param bootstrapServers Bootstrap servers of the Kafka client.
+     * @param metricName       Name of the metric of the Kafka client.
+     * @param value            Sampled value of the metric.
+     */
+    static void reportClientMetric(String clientId, String bootstrapServers, MetricName metricName, double value) {
+        if (!ObserveUtils.isMetricsEnabled() || metricRegistry == null) {
+            return;
+        }
+        String context = metricName.group().startsWith(KafkaObservabilityConstants.CONTEXT_PRODUCER)
+                ? KafkaObservabilityConstants.CONTEXT_PRODUCER : KafkaObservabilityConstants.CONTEXT_CONSUMER;
+        String partition = metricName.tags().get(KafkaObservabilityConstants.TAG_PARTITION);
+        String[] metric = {"client_" + metricName.name().replace('-', '_'), metricName.description()};
+        getGauge(context, clientId, bootstrapServers, metricName.tags().get(KafkaObservabilityConstants.TAG_TOPIC),
+                 partition == null ? NO_PARTITION : Integer.parseInt(partition), metric, false).setValue(value);
     }
 
     /**
@@ -305,18 +459,50 @@ public class KafkaMetricsUtil {
         reportError(consumerObject, topic, KafkaObservabilityConstants.CONTEXT_CONSUMER, errorType);
     }
 
-    private static void reportPublish(KafkaObserverContext observerContext, int size) {
-        incrementCounter(observerContext, KafkaObservabilityConstants.METRIC_PUBLISHED[0],
-                         KafkaObservabilityConstants.METRIC_PUBLISHED[1]);
-        incrementCounter(observerContext, KafkaObservabilityConstants.METRIC_PUBLISHED_SIZE[0],
-                         KafkaObservabilityConstants.METRIC_PUBLISHED_SIZE[1], size);
+    private static void reportRecords(String context, String clientId, String url, String topic,
+                                      String[] countMetric, String[] sizeMetric, int count, long size) {
+        if (metricRegistry == null) {
+            return;
+        }
+        getCounter(context, clientId, url, topic, countMetric).increment(count);
+        getCounter(context, clientId, url, topic, sizeMetric).increment(size);
     }
 
-    private static void reportConsume(KafkaObserverContext observerContext, int size) {
-        incrementCounter(observerContext, KafkaObservabilityConstants.METRIC_CONSUMED[0],
-                         KafkaObservabilityConstants.METRIC_CONSUMED[1]);
-        incrementCounter(observerContext, KafkaObservabilityConstants.METRIC_CONSUMED_SIZE[0],
-                         KafkaObservabilityConstants.METRIC_CONSUMED_SIZE[1], size);
+    /**
+     * Evicts the cached metric handles of a client once it is closed, so that the handles of short-lived clients are
+     * not retained.
+     *
+     * @param context  Context of the client.
+     * @param clientId Client ID of the client.
+     * @param url      Bootstrap servers of the client.
+     */
+    public static void evictClientMetrics(String context, String clientId, String url) {
+        counters.keySet().removeIf(key -> key.isOf(context, clientId, url));
+        gauges.keySet().removeIf(key -> key.isOf(context, clientId, url));
+    }
+
+    private static Counter getCounter(String context, String clientId, String url, String topic, String[] metric) {
+        return counters.computeIfAbsent(new MetricKey(metric[0], context, clientId, url, topic, NO_PARTITION),
+                key -> metricRegistry.counter(getMetricId(key, metric)));
+    }
+
+    // Gauges summarizing the statistics of the reported values stand for the histograms of the reported values.
+    private static Gauge getGauge(String context, String clientId, String url, String topic, int partition,
+                                  String[] metric, boolean summarized) {
+        return gauges.computeIfAbsent(new MetricKey(metric[0], context, clientId, url, topic, partition),
+                key -> summarized ? metricRegistry.gauge(getMetricId(key, metric), StatisticConfig.DEFAULT)
+                        : metricRegistry.gauge(getMetricId(key, metric)));
+    }
+
+    private static MetricId getMetricId(MetricKey key, String[] metric) {
+        KafkaObserverContext observerContext = key.topic() == null
+                ? new KafkaObserverContext(key.context(), key.clientId(), key.url())
+                : new KafkaObserverContext(key.context(), key.clientId(), key.url(), key.topic());
+        if (key.partition() != NO_PARTITION) {
+            observerContext.addTag(KafkaObservabilityConstants.TAG_PARTITION, String.valueOf(key.partition()));
+        }
+        return new MetricId(KafkaObservabilityConstants.CONNECTOR_NAME + "_" + metric[0], metric[1],
+                            observerContext.getAllTags());
     }
 
     public static void reportError(String context, String errorType) {
@@ -396,4 +582,12 @@ public class KafkaMetricsUtil {
 
     private KafkaMetricsUtil() {
     }
+
+    private record MetricKey(String name, String context, String clientId, String url, String topic, int partition) {
+
+        private boolean isOf(String context, String clientId, String url) {
+            return Objects.equals(this.context, context) && Objects.equals(this.clientId, clientId)
+                    && Objects.equals(this.url, url);
+        }
+    }
 }
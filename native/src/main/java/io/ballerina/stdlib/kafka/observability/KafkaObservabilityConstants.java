@@ -35,9 +35,16 @@ public class KafkaObservabilityConstants {
     static final String[] METRIC_SUBSCRIPTION = {"subscriptions", "Number of subscriptions"};
     static final String[] METRIC_CONSUMED = {"consumed", "Number of messages consumed"};
     static final String[] METRIC_CONSUMED_SIZE = {"consumed_size", "Total size in bytes of messages consumed"};
+    static final String[] METRIC_RECORD_AGE = {"record_age",
+            "Time in milliseconds from the timestamp of the consumed messages until they are dispatched"};
+    static final String[] METRIC_CONSUMER_LAG = {"consumer_lag",
+            "Number of messages the consumer lags behind the end of the partition"};
+    static final String[] METRIC_HANDLER_DURATION = {"handler_duration",
+            "Time in milliseconds taken by the service to process the consumed messages"};
 
     static final String TAG_URL = "url";
     static final String TAG_TOPIC = "topic";
+    static final String TAG_PARTITION = "partition";
     static final String TAG_ERROR_TYPE = "error_type";
     static final String TAG_CONTEXT = "context";
     static final String TAG_CLIENT_ID = "client_id";
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * {@code KafkaPollStageRecorder} records the time taken by each stage of the poll cycles of a listener consumer. The
+ * stage durations are reported as metrics of the consumer, and emitted as JFR events when such events are enabled in
+ * a flight recording.
+ */
+public class KafkaPollStageRecorder {
+
+    /**
+     * Stages of a poll cycle.
+     */
+    public enum Stage {
+        // Polling the records from the broker.
+        FETCH("fetch"),
+        // Binding the records to the parameters of the service, excluding the validation.
+        BIND("bind"),
+        // Validating the constraints of the bound parameters.
+        VALIDATE("validate"),
+        // Waiting for the service to process the records.
+        HANDLER_WAIT("handler_wait"),
+        // Committing the offsets of the processed records.
+        COMMIT("commit");
+
+        private final String name;
+        private final String[] metric;
+
+        Stage(String name) {
+            this.name = name;
+            this.metric = new String[]{"poll_" + name + "_duration",
+                    "Time in milliseconds taken by the " + name + " stage of the listener poll cycles"};
+        }
+    }
+
+    private final String serviceId;
+    private final int consumerId;
+    private final String clientId;
+    private final String bootstrapServers;
+
+    public KafkaPollStageRecorder(String serviceId, int consumerId, String clientId, String bootstrapServers) {
+        this.serviceId = serviceId;
+        this.consumerId = consumerId;
+        this.clientId = clientId;
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    /**
+     * Records a stage which started at the given time and ends now.
+     *
+     * @param stage     stage of the poll cycle
+     * @param startTime start time of the stage, as returned by {@code System.nanoTime()}
+     */
+    public void record(Stage stage, long startTime) {
+        recordDuration(stage, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Records a stage which took the given time.
+     *
+     * @param stage    stage of the poll cycle
+     * @param duration time taken by the stage in nanoseconds
+     */
+    public void recordDuration(Stage stage, long duration) {
+        KafkaMetricsUtil.reportPollStage(clientId, bootstrapServers, stage.metric, duration);
+        PollStageEvent event = new PollStageEvent();
+        if (event.isEnabled()) {
+            event.stage = stage.name;
+            event.serviceId = serviceId;
+            event.consumerId = consumerId;
+            event.clientId = clientId;
+            event.stageDuration = duration;
+            event.commit();
+        }
+    }
+
+    @Name("io.ballerina.stdlib.kafka.PollStage")
+    @Label("Kafka Poll Stage")
+    @Category({"Ballerina", "Kafka"})
+    private static class PollStageEvent extends Event {
+
+        @Label("Stage")
+        private String stage;
+
+        @Label("Service ID")
+        private String serviceId;
+
+        @Label("Consumer ID")
+        private int consumerId;
+
+        @Label("Client ID")
+        private String clientId;
+
+        @Label("Stage Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        private long stageDuration;
+    }
+}
@@ -20,12 +20,14 @@ package io.ballerina.stdlib.kafka.service;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.kafka.api.KafkaListener;
 import io.ballerina.stdlib.kafka.api.KafkaServerConnector;
 import io.ballerina.stdlib.kafka.exceptions.KafkaConnectorException;
+import io.ballerina.stdlib.kafka.impl.KafkaDispatchPlan;
 import io.ballerina.stdlib.kafka.impl.KafkaListenerImpl;
 import io.ballerina.stdlib.kafka.impl.KafkaServerConnectorImpl;
 import io.ballerina.stdlib.kafka.utils.KafkaUtils;
@@ -46,7 +48,8 @@ import static io.ballerina.stdlib.kafka.utils.KafkaConstants.UNCHECKED;
 public class Register {
 
     @SuppressWarnings(UNCHECKED)
-    public static Object register(Environment env, BObject listener, BObject service, Object name) {
+    public static Object register(Environment env, BObject listener, BObject service, Object name,
+                                  BArray consumerRecordParameters) {
         Object bootStrapServer = listener.get(CONSUMER_BOOTSTRAP_SERVERS_CONFIG);
         BMap<BString, Object> listenerConfigurations = listener.getMapValue(CONSUMER_CONFIG_FIELD_NAME);
         Properties configs = KafkaUtils.processKafkaConsumerConfig(bootStrapServer, listenerConfigurations);
@@ -56,7 +59,9 @@ public class Register {
             if (Objects.nonNull(listener.getNativeData(NATIVE_CONSUMER))) {
                 kafkaConsumer = (KafkaConsumer) listener.getNativeData(NATIVE_CONSUMER);
             }
-            KafkaListener kafkaListener = new KafkaListenerImpl(listener, service, env);
+            // Dispatch plan is resolved once here, and reused for all the poll cycles of the service.
+            KafkaDispatchPlan dispatchPlan = KafkaDispatchPlan.create(listener, service, consumerRecordParameters);
+            KafkaListener kafkaListener = new KafkaListenerImpl(listener, service, env, dispatchPlan);
             String serviceId = TypeUtils.getType(service).getQualifiedName();
             KafkaServerConnector serverConnector = new KafkaServerConnectorImpl(serviceId, configs, kafkaListener,
                     kafkaConsumer);
@@ -66,4 +71,8 @@ public class Register {
         }
         return null;
     }
+
+    public static BArray getConsumerRecordParameterTypes(BObject listener, BObject service) {
+        return KafkaDispatchPlan.getConsumerRecordParameterTypes(service);
+    }
 }
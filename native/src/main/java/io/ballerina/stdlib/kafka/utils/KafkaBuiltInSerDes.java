@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.stdlib.kafka.api.KafkaDeserializer;
+import io.ballerina.stdlib.kafka.api.KafkaSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.api.types.TypeTags.ANYDATA_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.JSON_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.STRING_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.UNION_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.XML_TAG;
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
+
+/**
+ * {@code KafkaBuiltInSerDes} contains the serializers and deserializers, which are available without registering.
+ * The {@code BYTE_ARRAY} serializer and deserializer are the defaults, which serialize and bind the values based on
+ * their types.
+ */
+public class KafkaBuiltInSerDes {
+
+    public static final String BYTE_ARRAY = "BYTE_ARRAY";
+    public static final String STRING = "STRING";
+    public static final String JSON = "JSON";
+    public static final String XML = "XML";
+
+    static final List<KafkaSerializer> SERIALIZERS = List.of(
+            new BuiltInSerializer(BYTE_ARRAY, KafkaValueSerializer::serialize),
+            new BuiltInSerializer(STRING, value -> getStringValue(value).getBytes(StandardCharsets.UTF_8)),
+            new BuiltInSerializer(JSON, KafkaValueSerializer::serializeJson),
+            new BuiltInSerializer(XML, KafkaBuiltInSerDes::serializeXml));
+
+    static final List<KafkaDeserializer> DESERIALIZERS = List.of(
+            new BuiltInDeserializer(BYTE_ARRAY, KafkaValueBinder::create),
+            new BuiltInDeserializer(STRING, KafkaBuiltInSerDes::createStringBinder),
+            new BuiltInDeserializer(JSON, KafkaValueBinder::createJson),
+            new BuiltInDeserializer(XML, KafkaBuiltInSerDes::createXmlBinder));
+
+    private KafkaBuiltInSerDes() {
+    }
+
+    private static String getStringValue(Object value) {
+        if (value instanceof BString) {
+            return ((BString) value).getValue();
+        }
+        return StringUtils.getStringValue(value);
+    }
+
+    private static byte[] serializeXml(Object value) {
+        if (!(value instanceof BXml)) {
+            throw createKafkaError("Failed to serialize the value with the XML serializer: value is not an xml value");
+        }
+        return StringUtils.getStringValue(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static KafkaValueBinder createStringBinder(Type type) {
+        Type referredType = getReferredType(type);
+        if (isAssignableFrom(referredType, STRING_TAG)) {
+            return new KafkaValueBinder(KafkaBuiltInSerDes::bindString);
+        }
+        return new KafkaValueBinder(value -> ValueUtils.convert(bindString(value), referredType));
+    }
+
+    private static KafkaValueBinder createXmlBinder(Type type) {
+        Type referredType = getReferredType(type);
+        if (isAssignableFrom(referredType, XML_TAG)) {
+            return new KafkaValueBinder(KafkaBuiltInSerDes::bindXml);
+        }
+        return new KafkaValueBinder(value -> ValueUtils.convert(bindXml(value), referredType));
+    }
+
+    private static Object bindString(byte[] value) {
+        return StringUtils.fromString(new String(value, StandardCharsets.UTF_8));
+    }
+
+    private static Object bindXml(byte[] value) {
+        return XmlUtils.parse(new ByteArrayInputStream(value));
+    }
+
+    private static boolean isAssignableFrom(Type type, int memberTag) {
+        switch (type.getTag()) {
+            case ANYDATA_TAG:
+                return true;
+            case JSON_TAG:
+                return memberTag == STRING_TAG;
+            case UNION_TAG:
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    if (isAssignableFrom(getReferredType(memberType), memberTag)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return type.getTag() == memberTag;
+        }
+    }
+
+    // The bytes of a buffer are not copied when the buffer wraps a whole array.
+    static byte[] getBytes(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static class BuiltInSerializer implements KafkaSerializer {
+
+        private final String name;
+        private final Function<Object, byte[]> serializer;
+
+        BuiltInSerializer(String name, Function<Object, byte[]> serializer) {
+            this.name = name;
+            this.serializer = serializer;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public ByteBuffer serialize(String topic, Object value) {
+            return ByteBuffer.wrap(serializer.apply(value));
+        }
+    }
+
+    static class BuiltInDeserializer implements KafkaDeserializer {
+
+        private final String name;
+        private final Function<Type, KafkaValueBinder> binderFactory;
+
+        BuiltInDeserializer(String name, Function<Type, KafkaValueBinder> binderFactory) {
+            this.name = name;
+            this.binderFactory = binderFactory;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Function<ByteBuffer, Object> forType(Type type) {
+            KafkaValueBinder binder = createBinder(type);
+            return buffer -> binder.bind(getBytes(buffer));
+        }
+
+        KafkaValueBinder createBinder(Type type) {
+            return binderFactory.apply(type);
+        }
+    }
+}
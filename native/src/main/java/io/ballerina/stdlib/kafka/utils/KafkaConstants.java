@@ -41,19 +41,24 @@ public class KafkaConstants {
     public static final String NATIVE_PRODUCER = "KafkaProducer";
     public static final String NATIVE_CONSUMER_CONFIG = "KafkaConsumerConfig";
     public static final String NATIVE_PRODUCER_CONFIG = "KafkaProducerConfig";
+    public static final String NATIVE_SEND_RESULT = "KafkaSendResult";
+    public static final String NATIVE_RECORD_SERIALIZER = "KafkaRecordSerializer";
+    public static final String NATIVE_RECORD_DESERIALIZER = "KafkaRecordDeserializer";
+    public static final String NATIVE_RECORD_BINDER_CACHE = "KafkaRecordBinderCache";
     public static final BString CONNECTOR_ID = StringUtils.fromString("connectorId");
 
     public static final String TRANSACTION_CONTEXT = "TransactionInitiated";
 
     public static final String TOPIC_PARTITION_STRUCT_NAME = "TopicPartition";
     public static final String OFFSET_STRUCT_NAME = "PartitionOffset";
+    public static final String RECORD_METADATA_STRUCT_NAME = "RecordMetadata";
 
     public static final String KAFKA_ERROR = "Error";
     public static final String PAYLOAD_BINDING_ERROR = "PayloadBindingError";
     public static final String PAYLOAD_VALIDATION_ERROR = "PayloadValidationError";
 
     public static final String CALLER_STRUCT_NAME = "Caller";
-    public static final String TYPE_CHECKER_OBJECT_NAME = "TypeChecker";
+    public static final String SEND_HANDLE_OBJECT_NAME = "SendHandle";
     public static final String SERVER_CONNECTOR = "serverConnector";
 
     public static final BString CONSUMER_CONFIG_FIELD_NAME = StringUtils.fromString("consumerConfig");
@@ -61,7 +66,6 @@ public class KafkaConstants {
 
     public static final String KAFKA_RESOURCE_ON_RECORD = "onConsumerRecord";
     public static final String KAFKA_RESOURCE_ON_ERROR = "onError";
-    public static final String KAFKA_RESOURCE_IS_ANYDATA_CONSUMER_RECORD = "isAnydataConsumerRecord";
     public static final String KAFKA_RECORD_KEY = "key";
     public static final String KAFKA_RECORD_VALUE = "value";
     public static final BString KAFKA_RECORD_TIMESTAMP = StringUtils.fromString("timestamp");
@@ -78,7 +82,15 @@ public class KafkaConstants {
     public static final BString ALIAS_TOPICS = StringUtils.fromString("topics");
     public static final BString ALIAS_POLLING_TIMEOUT = StringUtils.fromString("pollingTimeout");
     public static final BString ALIAS_POLLING_INTERVAL = StringUtils.fromString("pollingInterval");
+    public static final BString ALIAS_POLLING_MODE = StringUtils.fromString("pollingMode");
     public static final BString ALIAS_DECOUPLE_PROCESSING = StringUtils.fromString("decoupleProcessing");
+    public static final BString ALIAS_MAX_IN_FLIGHT_BATCHES = StringUtils.fromString("maxInFlightBatches");
+    public static final BString ALIAS_BACK_PRESSURE_TIMEOUT = StringUtils.fromString("backPressureTimeout");
+    public static final BString ALIAS_OFFSET_COMMIT_INTERVAL = StringUtils.fromString("offsetCommitInterval");
+    public static final BString ALIAS_MAX_UNCOMMITTED_RECORDS = StringUtils.fromString("maxUncommittedRecords");
+    public static final BString ALIAS_MIN_BATCH_RECORDS = StringUtils.fromString("minBatchRecords");
+    public static final BString ALIAS_MAX_BATCH_BYTES = StringUtils.fromString("maxBatchBytes");
+    public static final BString ALIAS_MAX_BATCH_WAIT = StringUtils.fromString("maxBatchWait");
     public static final BString ALIAS_TOPIC = StringUtils.fromString("topic");
     public static final BString ALIAS_PARTITION = StringUtils.fromString("partition");
     public static final BString ALIAS_OFFSET = StringUtils.fromString("offset");
@@ -118,6 +130,9 @@ public class KafkaConstants {
     public static final BString CONSUMER_METRICS_SAMPLE_WINDOW_MS_CONFIG = StringUtils.fromString(
             "metricsSampleWindow");
     public static final BString CONSUMER_METRICS_NUM_SAMPLES_CONFIG = StringUtils.fromString("metricsNumSamples");
+    public static final BString CONSUMER_CLIENT_METRICS_CONFIG = StringUtils.fromString("clientMetrics");
+    public static final BString CONSUMER_CLIENT_METRICS_SAMPLE_INTERVAL_CONFIG = StringUtils.fromString(
+            "clientMetricsSampleInterval");
     public static final BString CONSUMER_REQUEST_TIMEOUT_MS_CONFIG = StringUtils.fromString("requestTimeout");
     public static final BString CONSUMER_CONNECTIONS_MAX_IDLE_MS_CONFIG = StringUtils.fromString(
             "connectionMaxIdleTime");
@@ -128,6 +143,16 @@ public class KafkaConstants {
     public static final BString CONSUMER_ENABLE_AUTO_COMMIT_CONFIG = StringUtils.fromString("autoCommit");
     public static final BString CONSUMER_ENABLE_AUTO_SEEK_CONFIG = StringUtils
             .fromString("autoSeekOnValidationFailure");
+    public static final BString CONSUMER_CONCURRENT_PARTITION_DISPATCH_CONFIG = StringUtils
+            .fromString("concurrentPartitionDispatch");
+    public static final BString CONSUMER_KEY_ORDERED_DISPATCH_CONFIG = StringUtils.fromString("keyOrderedDispatch");
+    public static final BString CONSUMER_PARALLEL_BINDING_THRESHOLD_CONFIG =
+            StringUtils.fromString("parallelBindingThreshold");
+    public static final BString CONSUMER_HEADER_KEYS_CONFIG = StringUtils.fromString("headerKeys");
+    public static final BString CONSUMER_KEY_DESERIALIZER_CONFIG = StringUtils.fromString("keyDeserializer");
+    public static final BString CONSUMER_VALUE_DESERIALIZER_CONFIG = StringUtils.fromString("valueDeserializer");
+    public static final BString CONSUMER_TOPIC_VALUE_DESERIALIZERS_CONFIG = StringUtils.fromString(
+            "topicValueDeserializers");
     public static final BString CONSUMER_CHECK_CRCS_CONFIG = StringUtils.fromString("checkCRCS");
     public static final BString CONSUMER_EXCLUDE_INTERNAL_TOPICS_CONFIG = StringUtils.fromString(
             "excludeInternalTopics");
@@ -166,6 +191,13 @@ public class KafkaConstants {
     public static final BString PRODUCER_METRICS_SAMPLE_WINDOW_MS_CONFIG = StringUtils.fromString(
             "metricsSampleWindow");
     public static final BString PRODUCER_METRICS_NUM_SAMPLES_CONFIG = StringUtils.fromString("metricsNumSamples");
+    public static final BString PRODUCER_CLIENT_METRICS_CONFIG = StringUtils.fromString("clientMetrics");
+    public static final BString PRODUCER_CLIENT_METRICS_SAMPLE_INTERVAL_CONFIG = StringUtils.fromString(
+            "clientMetricsSampleInterval");
+    public static final BString PRODUCER_KEY_SERIALIZER_CONFIG = StringUtils.fromString("keySerializer");
+    public static final BString PRODUCER_VALUE_SERIALIZER_CONFIG = StringUtils.fromString("valueSerializer");
+    public static final BString PRODUCER_TOPIC_VALUE_SERIALIZERS_CONFIG = StringUtils.fromString(
+            "topicValueSerializers");
     public static final BString PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION = StringUtils.fromString(
             "maxInFlightRequestsPerConnection");
     public static final BString PRODUCER_CONNECTIONS_MAX_IDLE_MS_CONFIG = StringUtils.fromString(
@@ -202,6 +234,11 @@ public class KafkaConstants {
     public static final String SASL_SCRAM_SHA_256 = "SCRAM-SHA-256";
     public static final String SASL_SCRAM_SHA_512 = "SCRAM-SHA-512";
 
+    // Polling modes
+    public static final String POLLING_MODE_FIXED = "FIXED";
+    public static final String POLLING_MODE_CONTINUOUS = "CONTINUOUS";
+    public static final String POLLING_MODE_ADAPTIVE = "ADAPTIVE";
+
     // Serializer - Deserializer names
     // Ballerina String Names
     public static final String SERDES_BYTE_ARRAY = "BYTE_ARRAY";
@@ -220,6 +257,8 @@ public class KafkaConstants {
     public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
     public static final String CLIENT_ID = "client.id";
     public static final String SCHEMA_REGISTRY_URL = "schema.registry.url";
+    public static final String CLIENT_METRICS = "ballerina.client.metrics";
+    public static final String CLIENT_METRICS_SAMPLE_INTERVAL_MS = "ballerina.client.metrics.sample.interval.ms";
     public static final String DEFAULT_SER_DES_TYPE = "BYTE_ARRAY";
     public static final BString CONSTRAINT_VALIDATION = StringUtils.fromString("validation");
 
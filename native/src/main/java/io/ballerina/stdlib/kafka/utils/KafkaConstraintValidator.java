@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.AnnotatableType;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.ReferenceType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.constraint.Constraints;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code KafkaConstraintValidator} validates the bound values against the constraints of a binding target. Whether
+ * the target has constraint annotations and its typedesc are resolved once per type, and the targets without any
+ * constraint annotations are not validated at all.
+ */
+public class KafkaConstraintValidator {
+
+    private static final String CONSTRAINT_MODULE_PREFIX = "ballerina/constraint";
+    private static final Map<Type, KafkaConstraintValidator> VALIDATORS = new ConcurrentHashMap<>();
+
+    private final boolean constrained;
+    private final BTypedesc typedesc;
+    private final ArrayType arrayType;
+    private final BTypedesc arrayTypedesc;
+
+    private KafkaConstraintValidator(Type type) {
+        this.constrained = hasConstraints(type, new HashSet<>());
+        this.typedesc = ValueCreator.createTypedescValue(type);
+        this.arrayType = TypeCreator.createArrayType(type);
+        this.arrayTypedesc = ValueCreator.createTypedescValue(arrayType);
+    }
+
+    /**
+     * Returns the validator of the given binding target, which is resolved once per type.
+     *
+     * @param type binding target of the validated values
+     * @return validator of the type, or {@code null} if the type does not have any constraint annotations
+     */
+    public static KafkaConstraintValidator create(Type type) {
+        KafkaConstraintValidator validator = VALIDATORS.computeIfAbsent(type, KafkaConstraintValidator::new);
+        return validator.constrained ? validator : null;
+    }
+
+    /**
+     * Validates a bound value against the constraints of the type.
+     *
+     * @param value          bound value
+     * @param consumerRecord Kafka record from which the value is bound
+     * @param autoSeek       whether the records failing the validation are seeked past
+     * @throws BError if the value does not satisfy the constraints
+     */
+    public void validate(Object value, ConsumerRecord consumerRecord, boolean autoSeek) {
+        KafkaUtils.validateConstraints(value, typedesc, consumerRecord, autoSeek);
+    }
+
+    /**
+     * Validates the bound values of a batch in a single call to the constraint validation.
+     *
+     * @param values bound values of the batch
+     * @return true if all the values satisfy the constraints, else false
+     */
+    public boolean isValid(List<Object> values) {
+        BArray valueArray = ValueCreator.createArrayValue(arrayType);
+        for (Object value : values) {
+            valueArray.append(value);
+        }
+        return !(Constraints.validate(valueArray, arrayTypedesc) instanceof BError);
+    }
+
+    private static boolean hasConstraints(Type type, Set<Type> visitedTypes) {
+        if (!visitedTypes.add(type)) {
+            return false;
+        }
+        if (type instanceof AnnotatableType annotatableType
+                && hasConstraintAnnotations(annotatableType.getAnnotations())) {
+            return true;
+        }
+        if (type instanceof ReferenceType referenceType) {
+            return hasConstraints(referenceType.getReferredType(), visitedTypes);
+        } else if (type instanceof IntersectionType intersectionType) {
+            return hasConstraints(intersectionType.getEffectiveType(), visitedTypes);
+        } else if (type instanceof RecordType recordType) {
+            for (Field field : recordType.getFields().values()) {
+                if (hasConstraints(field.getFieldType(), visitedTypes)) {
+                    return true;
+                }
+            }
+            return recordType.getRestFieldType() != null
+                    && hasConstraints(recordType.getRestFieldType(), visitedTypes);
+        } else if (type instanceof ArrayType arrayType) {
+            return hasConstraints(arrayType.getElementType(), visitedTypes);
+        } else if (type instanceof MapType mapType) {
+            return hasConstraints(mapType.getConstrainedType(), visitedTypes);
+        } else if (type instanceof TableType tableType) {
+            return hasConstraints(tableType.getConstrainedType(), visitedTypes);
+        } else if (type instanceof UnionType unionType) {
+            for (Type memberType : unionType.getMemberTypes()) {
+                if (hasConstraints(memberType, visitedTypes)) {
+                    return true;
+                }
+            }
+        } else if (type instanceof TupleType tupleType) {
+            for (Type memberType : tupleType.getTupleTypes()) {
+                if (hasConstraints(memberType, visitedTypes)) {
+                    return true;
+                }
+            }
+            return tupleType.getRestType() != null && hasConstraints(tupleType.getRestType(), visitedTypes);
+        }
+        return false;
+    }
+
+    private static boolean hasConstraintAnnotations(BMap<BString, Object> annotations) {
+        // Constraint annotations of the type are keyed by their qualified names, while the annotations of the
+        // record fields are nested under the field names.
+        for (Map.Entry<BString, Object> annotation : annotations.entrySet()) {
+            if (annotation.getKey().getValue().startsWith(CONSTRAINT_MODULE_PREFIX)) {
+                return true;
+            }
+            if (annotation.getValue() instanceof BMap fieldAnnotations && hasConstraintAnnotations(fieldAnnotations)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.stdlib.kafka.api.KafkaOffsetHandler;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code KafkaConsumerOffsetHandler} commits and seeks the offsets of a bound batch directly on the consumer, while
+ * the polling thread is waiting for the batch to be processed.
+ */
+public class KafkaConsumerOffsetHandler implements KafkaOffsetHandler {
+
+    private final KafkaConsumer consumer;
+
+    public KafkaConsumerOffsetHandler(KafkaConsumer consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void seek(TopicPartition topicPartition, long offset) {
+        synchronized (consumer) {
+            consumer.seek(topicPartition, offset);
+        }
+    }
+
+    @Override
+    public void commit(Map<String, PartitionOffset> partitionOffsets) {
+        synchronized (consumer) {
+            consumer.commitSync(getOffsetsFromMap(partitionOffsets));
+            for (PartitionOffset partitionOffset : partitionOffsets.values()) {
+                consumer.seek(partitionOffset.getTopicPartition(), partitionOffset.getOffset() + 1);
+            }
+        }
+    }
+
+    public static Map<TopicPartition, OffsetAndMetadata> getOffsetsFromMap(Map<String, PartitionOffset> partitionMap) {
+        Map<TopicPartition, OffsetAndMetadata> metadataMap = new HashMap<>();
+        for (PartitionOffset partitionOffset : partitionMap.values()) {
+            metadataMap.put(partitionOffset.getTopicPartition(),
+                    new OffsetAndMetadata(partitionOffset.getOffset() + 1));
+        }
+        return metadataMap;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.api.types.TypeTags.ARRAY_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.BYTE_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.STRING_TAG;
+
+/**
+ * {@code KafkaHeaderBinder} binds the headers of the Kafka records to the header type of a consumer record. The types
+ * of the single-valued and the multivalued headers are resolved once for the header type, and the header names are
+ * interned, hence a header is converted straight to its Ballerina value.
+ */
+public class KafkaHeaderBinder {
+
+    // Header names are not known upfront, hence the number of interned names is bounded.
+    private static final int MAX_INTERNED_KEYS = 1024;
+    private static final Map<Type, KafkaHeaderBinder> BINDERS = new ConcurrentHashMap<>();
+
+    // Binders return null for the header values which cannot be bound to the header type, and such headers are
+    // left out as before.
+    private final Function<byte[], Object> singleValueBinder;
+    private final Function<List<byte[]>, Object> multiValueBinder;
+    private final Map<String, BString> internedKeys = new ConcurrentHashMap<>();
+
+    private KafkaHeaderBinder(Type headerType) {
+        Type singleValueType = headerType;
+        Type multiValueType = headerType;
+        if (headerType instanceof UnionType unionType) {
+            singleValueType = getMostAppropriateType(unionType.getMemberTypes(), false);
+            multiValueType = getMostAppropriateType(unionType.getMemberTypes(), true);
+        }
+        this.singleValueBinder = createSingleValueBinder(singleValueType);
+        this.multiValueBinder = createMultiValueBinder(multiValueType);
+    }
+
+    /**
+     * Returns the binder of the given header type, which is created once per header type.
+     *
+     * @param headerType constrained type of the headers map of the consumer record
+     * @return binder of the header type
+     */
+    public static KafkaHeaderBinder create(Type headerType) {
+        return BINDERS.computeIfAbsent(headerType, KafkaHeaderBinder::new);
+    }
+
+    /**
+     * Binds the given headers to the header type.
+     *
+     * @param headers    headers of the Kafka record
+     * @param headerKeys names of the headers to be bound, or {@code null} to bind all the headers
+     * @return {@code BMap} of the bound headers
+     */
+    public BMap<BString, Object> bind(Headers headers, Set<String> headerKeys) {
+        // A header name is mapped to its value, or to the list of its values when the header is repeated.
+        Map<String, Object> headerValues = new LinkedHashMap<>();
+        for (Header header : headers) {
+            if (headerKeys != null && !headerKeys.contains(header.key())) {
+                continue;
+            }
+            Object existingValue = headerValues.putIfAbsent(header.key(), header.value());
+            if (existingValue instanceof byte[] existingSingleValue) {
+                List<byte[]> valueList = new ArrayList<>();
+                valueList.add(existingSingleValue);
+                valueList.add(header.value());
+                headerValues.put(header.key(), valueList);
+            } else if (existingValue != null) {
+                ((List<byte[]>) existingValue).add(header.value());
+            }
+        }
+        BMap<BString, Object> bHeaders = ValueCreator.createMapValue();
+        headerValues.forEach((key, value) -> {
+            Object bValue = value instanceof byte[] singleValue ? singleValueBinder.apply(singleValue)
+                    : multiValueBinder.apply((List<byte[]>) value);
+            if (bValue != null) {
+                bHeaders.put(getKey(key), bValue);
+            }
+        });
+        return bHeaders;
+    }
+
+    private BString getKey(String key) {
+        BString bKey = internedKeys.get(key);
+        if (bKey == null) {
+            bKey = StringUtils.fromString(key);
+            if (internedKeys.size() < MAX_INTERNED_KEYS) {
+                internedKeys.putIfAbsent(key, bKey);
+            }
+        }
+        return bKey;
+    }
+
+    private static Type getMostAppropriateType(List<Type> memberTypes, boolean multiValued) {
+        // Multivalued headers are bound to the first array type other than byte[], and single-valued headers to
+        // the first byte[] or non-array type, falling back to the last member type.
+        for (int i = 0; i < memberTypes.size() - 1; i++) {
+            Type memberType = memberTypes.get(i);
+            if (memberType instanceof ArrayType arrayType) {
+                if ((arrayType.getElementType().getTag() == BYTE_TAG) != multiValued) {
+                    return memberType;
+                }
+            } else if (!multiValued) {
+                return memberType;
+            }
+        }
+        return memberTypes.get(memberTypes.size() - 1);
+    }
+
+    private static Function<byte[], Object> createSingleValueBinder(Type type) {
+        if (type instanceof ArrayType arrayType) {
+            switch (arrayType.getElementType().getTag()) {
+                case ARRAY_TAG:
+                    return value -> {
+                        BArray valueArray = ValueCreator.createArrayValue(arrayType);
+                        valueArray.add(0, ValueCreator.createArrayValue(value));
+                        return valueArray;
+                    };
+                case STRING_TAG:
+                    return value -> {
+                        BArray valueArray = ValueCreator.createArrayValue(arrayType);
+                        valueArray.add(0, toBString(value));
+                        return valueArray;
+                    };
+                case BYTE_TAG:
+                    return value -> ValueCreator.createArrayValue(value);
+                default:
+                    return value -> null;
+            }
+        } else if (type.getTag() == STRING_TAG) {
+            return KafkaHeaderBinder::toBString;
+        }
+        return value -> null;
+    }
+
+    private static Function<List<byte[]>, Object> createMultiValueBinder(Type type) {
+        if (type instanceof ArrayType arrayType) {
+            switch (arrayType.getElementType().getTag()) {
+                case ARRAY_TAG:
+                    return valueList -> {
+                        BArray valueArray = ValueCreator.createArrayValue(arrayType);
+                        for (int i = 0; i < valueList.size(); i++) {
+                            valueArray.add(i, ValueCreator.createArrayValue(valueList.get(i)));
+                        }
+                        return valueArray;
+                    };
+                case STRING_TAG:
+                    return valueList -> {
+                        BArray valueArray = ValueCreator.createArrayValue(arrayType);
+                        for (int i = 0; i < valueList.size(); i++) {
+                            valueArray.add(i, toBString(valueList.get(i)));
+                        }
+                        return valueArray;
+                    };
+                case BYTE_TAG:
+                    return valueList -> ValueCreator.createArrayValue(valueList.get(0));
+                default:
+                    return valueList -> null;
+            }
+        } else if (type.getTag() == STRING_TAG) {
+            return valueList -> toBString(valueList.get(0));
+        }
+        return valueList -> null;
+    }
+
+    private static BString toBString(byte[] value) {
+        return StringUtils.fromString(new String(value, StandardCharsets.UTF_8));
+    }
+}
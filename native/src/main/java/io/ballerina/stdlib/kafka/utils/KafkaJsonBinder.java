@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.api.types.TypeTags.ANYDATA_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.ARRAY_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.BOOLEAN_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.DECIMAL_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.FLOAT_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.INT_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.JSON_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.MAP_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.NULL_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.RECORD_TYPE_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.STRING_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.UNION_TAG;
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
+
+/**
+ * {@code KafkaJsonBinder} binds JSON payloads to record and map types in a single pass over the bytes, without
+ * building an intermediate JSON value. Fields which are not declared in a closed record are skipped, and a value of an
+ * unexpected kind fails the binding right away. Types which need the conversion of the runtime, such as types with
+ * default field values, readonly types and unions other than optional types, are not supported by this binder.
+ */
+public class KafkaJsonBinder {
+
+    private final ValueReader reader;
+
+    private KafkaJsonBinder(ValueReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Creates a binder for the given record or map type.
+     *
+     * @param type intended type of the bound values
+     * @return binder of the type, or null if the type is not supported
+     */
+    public static KafkaJsonBinder create(Type type) {
+        Type referredType = getReferredType(type);
+        if (referredType.getTag() != RECORD_TYPE_TAG && referredType.getTag() != MAP_TAG) {
+            return null;
+        }
+        ValueReader reader = createReader(referredType, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return reader == null ? null : new KafkaJsonBinder(reader);
+    }
+
+    /**
+     * Binds the given JSON payload to the intended type of the binder.
+     *
+     * @param value JSON payload
+     * @return bound value, or a {@code BError} if the payload cannot be bound to the intended type
+     */
+    public Object bind(byte[] value) {
+        JsonCursor cursor = new JsonCursor(value);
+        try {
+            Object result = reader.read(cursor);
+            if (cursor.peek() != -1) {
+                throw cursor.error("unexpected content after the JSON value");
+            }
+            return result;
+        } catch (JsonBindingException e) {
+            return createKafkaError("Failed to bind the JSON payload: " + e.getMessage());
+        }
+    }
+
+    private static ValueReader createReader(Type type, Set<Type> visitedTypes) {
+        Type referredType = getReferredType(type);
+        if (referredType.isReadOnly()) {
+            return null;
+        }
+        switch (referredType.getTag()) {
+            case STRING_TAG:
+                return cursor -> StringUtils.fromString(cursor.readString());
+            case INT_TAG:
+                return JsonCursor::readInt;
+            case FLOAT_TAG:
+                return cursor -> Double.parseDouble(cursor.readNumber());
+            case DECIMAL_TAG:
+                return JsonCursor::readDecimal;
+            case BOOLEAN_TAG:
+                return JsonCursor::readBoolean;
+            case JSON_TAG:
+            case ANYDATA_TAG:
+                return JsonCursor::readJson;
+            case UNION_TAG:
+                return createNilableReader((UnionType) referredType, visitedTypes);
+            case ARRAY_TAG:
+                return createArrayReader((ArrayType) referredType, visitedTypes);
+            case MAP_TAG:
+                return createMapReader((MapType) referredType, visitedTypes);
+            case RECORD_TYPE_TAG:
+                return createRecordReader((RecordType) referredType, visitedTypes);
+            default:
+                return null;
+        }
+    }
+
+    private static ValueReader createNilableReader(UnionType type, Set<Type> visitedTypes) {
+        List<Type> memberTypes = type.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        Type memberType;
+        if (memberTypes.get(0).getTag() == NULL_TAG) {
+            memberType = memberTypes.get(1);
+        } else if (memberTypes.get(1).getTag() == NULL_TAG) {
+            memberType = memberTypes.get(0);
+        } else {
+            return null;
+        }
+        ValueReader memberReader = createReader(memberType, visitedTypes);
+        if (memberReader == null) {
+            return null;
+        }
+        return cursor -> cursor.readNullIfPresent() ? null : memberReader.read(cursor);
+    }
+
+    private static ValueReader createArrayReader(ArrayType type, Set<Type> visitedTypes) {
+        // Fixed length arrays and byte arrays are left to the conversion of the runtime.
+        if (type.getSize() != -1 || !visitedTypes.add(type)) {
+            return null;
+        }
+        ValueReader elementReader = createReader(type.getElementType(), visitedTypes);
+        visitedTypes.remove(type);
+        if (elementReader == null) {
+            return null;
+        }
+        return cursor -> {
+            BArray array = ValueCreator.createArrayValue(type);
+            cursor.expect('[');
+            if (!cursor.consumeIf(']')) {
+                do {
+                    array.append(elementReader.read(cursor));
+                } while (cursor.consumeIf(','));
+                cursor.expect(']');
+            }
+            return array;
+        };
+    }
+
+    private static ValueReader createMapReader(MapType type, Set<Type> visitedTypes) {
+        if (!visitedTypes.add(type)) {
+            return null;
+        }
+        ValueReader constraintReader = createReader(type.getConstrainedType(), visitedTypes);
+        visitedTypes.remove(type);
+        if (constraintReader == null) {
+            return null;
+        }
+        return cursor -> {
+            BMap<BString, Object> map = ValueCreator.createMapValue(type);
+            cursor.expect('{');
+            if (!cursor.consumeIf('}')) {
+                do {
+                    BString key = StringUtils.fromString(cursor.readString());
+                    cursor.expect(':');
+                    map.put(key, constraintReader.read(cursor));
+                } while (cursor.consumeIf(','));
+                cursor.expect('}');
+            }
+            return map;
+        };
+    }
+
+    private static ValueReader createRecordReader(RecordType type, Set<Type> visitedTypes) {
+        // Undeclared fields of an open record are kept, hence its rest field must accept any JSON value.
+        if (!type.isSealed() && type.getRestFieldType().getTag() != ANYDATA_TAG
+                && type.getRestFieldType().getTag() != JSON_TAG) {
+            return null;
+        }
+        if (!visitedTypes.add(type)) {
+            return null;
+        }
+        Map<String, FieldBinding> fieldBindings = new HashMap<>();
+        List<BString> requiredFields = new ArrayList<>();
+        try {
+            for (Field field : type.getFields().values()) {
+                long flags = field.getFlags();
+                // Fields which are neither required nor optional have default values.
+                if (SymbolFlags.isFlagOn(flags, SymbolFlags.READONLY) || !SymbolFlags.isFlagOn(flags,
+                        SymbolFlags.REQUIRED) && !SymbolFlags.isFlagOn(flags, SymbolFlags.OPTIONAL)) {
+                    return null;
+                }
+                ValueReader fieldReader = createReader(field.getFieldType(), visitedTypes);
+                if (fieldReader == null) {
+                    return null;
+                }
+                BString fieldName = StringUtils.fromString(field.getFieldName());
+                fieldBindings.put(field.getFieldName(), new FieldBinding(fieldName, fieldReader));
+                if (SymbolFlags.isFlagOn(flags, SymbolFlags.REQUIRED)) {
+                    requiredFields.add(fieldName);
+                }
+            }
+        } finally {
+            visitedTypes.remove(type);
+        }
+        boolean closed = type.isSealed();
+        return cursor -> {
+            BMap<BString, Object> record = ValueCreator.createRecordValue(type);
+            cursor.expect('{');
+            if (!cursor.consumeIf('}')) {
+                do {
+                    String key = cursor.readString();
+                    cursor.expect(':');
+                    FieldBinding fieldBinding = fieldBindings.get(key);
+                    if (fieldBinding != null) {
+                        record.put(fieldBinding.name, fieldBinding.reader.read(cursor));
+                    } else if (closed) {
+                        cursor.skipValue();
+                    } else {
+                        record.put(StringUtils.fromString(key), cursor.readJson());
+                    }
+                } while (cursor.consumeIf(','));
+                cursor.expect('}');
+            }
+            for (BString requiredField : requiredFields) {
+                if (!record.containsKey(requiredField)) {
+                    throw cursor.error("missing required field '" + requiredField.getValue() + "' of '"
+                                               + type.getName() + "'");
+                }
+            }
+            return record;
+        };
+    }
+
+    /**
+     * Reads a value of a type from the JSON payload.
+     */
+    private interface ValueReader {
+
+        Object read(JsonCursor cursor);
+    }
+
+    /**
+     * Name and the reader of a declared field of a record.
+     */
+    private static class FieldBinding {
+
+        private final BString name;
+        private final ValueReader reader;
+
+        FieldBinding(BString name, ValueReader reader) {
+            this.name = name;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * Error in the JSON payload, or a value of an unexpected kind in the payload.
+     */
+    private static class JsonBindingException extends RuntimeException {
+
+        JsonBindingException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Position in the bytes of a JSON payload.
+     */
+    private static class JsonCursor {
+
+        private final byte[] bytes;
+        private int position = 0;
+
+        JsonCursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int peek() {
+            while (position < bytes.length) {
+                byte current = bytes[position];
+                if (current != ' ' && current != '\n' && current != '\r' && current != '\t') {
+                    return current;
+                }
+                position++;
+            }
+            return -1;
+        }
+
+        void expect(char expected) {
+            if (peek() != expected) {
+                throw error("expected '" + expected + "'");
+            }
+            position++;
+        }
+
+        boolean consumeIf(char expected) {
+            if (peek() == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean readNullIfPresent() {
+            if (peek() != 'n') {
+                return false;
+            }
+            expectLiteral("null");
+            return true;
+        }
+
+        Object readBoolean() {
+            int current = peek();
+            if (current == 't') {
+                expectLiteral("true");
+                return true;
+            } else if (current == 'f') {
+                expectLiteral("false");
+                return false;
+            }
+            throw error("expected a boolean");
+        }
+
+        Object readInt() {
+            String number = readNumber();
+            try {
+                if (number.indexOf('.') == -1 && number.indexOf('e') == -1 && number.indexOf('E') == -1) {
+                    return Long.parseLong(number);
+                }
+                // Fractional numbers are rounded as in the conversion of the runtime.
+                return new BigDecimal(number).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw error("'" + number + "' cannot be converted to an int");
+            }
+        }
+
+        Object readDecimal() {
+            String number = readNumber();
+            try {
+                return ValueCreator.createDecimalValue(new BigDecimal(number));
+            } catch (NumberFormatException | BError e) {
+                throw error("'" + number + "' cannot be converted to a decimal");
+            }
+        }
+
+        // Reads a number as defined in the JSON grammar, which does not allow leading zeros, a leading '+', or a
+        // fraction or an exponent without digits.
+        String readNumber() {
+            int current = peek();
+            if (current != '-' && (current < '0' || current > '9')) {
+                throw error("expected a number");
+            }
+            int start = position;
+            if (current == '-') {
+                position++;
+            }
+            boolean valid;
+            if (position < bytes.length && bytes[position] == '0') {
+                position++;
+                valid = true;
+            } else {
+                valid = skipDigits();
+            }
+            if (valid && position < bytes.length && bytes[position] == '.') {
+                position++;
+                valid = skipDigits();
+            }
+            if (valid && position < bytes.length && (bytes[position] == 'e' || bytes[position] == 'E')) {
+                position++;
+                if (position < bytes.length && (bytes[position] == '+' || bytes[position] == '-')) {
+                    position++;
+                }
+                valid = skipDigits();
+            }
+            if (!valid || position < bytes.length && isNumberCharacter(bytes[position])) {
+                while (position < bytes.length && isNumberCharacter(bytes[position])) {
+                    position++;
+                }
+                throw error("invalid number '" + new String(bytes, start, position - start,
+                        StandardCharsets.US_ASCII) + "'");
+            }
+            return new String(bytes, start, position - start, StandardCharsets.US_ASCII);
+        }
+
+        private boolean skipDigits() {
+            int start = position;
+            while (position < bytes.length && bytes[position] >= '0' && bytes[position] <= '9') {
+                position++;
+            }
+            return position > start;
+        }
+
+        String readString() {
+            expect('"');
+            int start = position;
+            StringBuilder builder = null;
+            while (position < bytes.length) {
+                byte current = bytes[position];
+                if (current == '"') {
+                    String segment = new String(bytes, start, position - start, StandardCharsets.UTF_8);
+                    position++;
+                    return builder == null ? segment : builder.append(segment).toString();
+                }
+                if (current == '\\') {
+                    if (builder == null) {
+                        builder = new StringBuilder();
+                    }
+                    builder.append(new String(bytes, start, position - start, StandardCharsets.UTF_8));
+                    position++;
+                    builder.append(readEscapedCharacter());
+                    start = position;
+                } else if (current >= 0 && current < 0x20) {
+                    throw error("unescaped control character in string");
+                } else {
+                    position++;
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        Object readJson() {
+            int start = position;
+            skipValue();
+            return JsonUtils.parse(new ByteArrayInputStream(bytes, start, position - start));
+        }
+
+        void skipValue() {
+            int current = peek();
+            switch (current) {
+                case '{':
+                    position++;
+                    if (!consumeIf('}')) {
+                        do {
+                            readString();
+                            expect(':');
+                            skipValue();
+                        } while (consumeIf(','));
+                        expect('}');
+                    }
+                    break;
+                case '[':
+                    position++;
+                    if (!consumeIf(']')) {
+                        do {
+                            skipValue();
+                        } while (consumeIf(','));
+                        expect(']');
+                    }
+                    break;
+                case '"':
+                    readString();
+                    break;
+                case 't':
+                case 'f':
+                    readBoolean();
+                    break;
+                case 'n':
+                    expectLiteral("null");
+                    break;
+                default:
+                    readNumber();
+            }
+        }
+
+        JsonBindingException error(String message) {
+            return new JsonBindingException(message + " at position " + position);
+        }
+
+        private char readEscapedCharacter() {
+            if (position >= bytes.length) {
+                throw error("unterminated string");
+            }
+            byte escaped = bytes[position++];
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    return (char) escaped;
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    if (position + 4 > bytes.length) {
+                        throw error("invalid unicode escape");
+                    }
+                    try {
+                        char character = (char) Integer.parseInt(
+                                new String(bytes, position, 4, StandardCharsets.US_ASCII), 16);
+                        position += 4;
+                        return character;
+                    } catch (NumberFormatException e) {
+                        throw error("invalid unicode escape");
+                    }
+                default:
+                    throw error("invalid escape character");
+            }
+        }
+
+        private void expectLiteral(String literal) {
+            int end = position + literal.length();
+            if (end > bytes.length
+                    || !literal.equals(new String(bytes, position, literal.length(), StandardCharsets.US_ASCII))) {
+                throw error("expected '" + literal + "'");
+            }
+            position = end;
+        }
+
+        private static boolean isNumberCharacter(byte character) {
+            return character >= '0' && character <= '9' || character == '-' || character == '+' || character == '.'
+                    || character == 'e' || character == 'E';
+        }
+    }
+}
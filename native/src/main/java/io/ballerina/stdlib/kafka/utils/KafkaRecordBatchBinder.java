@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.values.BError;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * {@code KafkaRecordBatchBinder} binds the records of a polled batch. Batches having at least the parallel binding
+ * threshold number of records are bound upfront in chunks on virtual threads, while the others are bound one at a
+ * time as they are accessed unless the batch is validated. Outcome of the binding of each record is retained, hence
+ * the records are handled in the polled order regardless of how they were bound.
+ */
+class KafkaRecordBatchBinder {
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private final List<ConsumerRecord> records;
+    private final Function<ConsumerRecord, Object> binder;
+    private Object[] values;
+    // Errors thrown while binding the records, including the ones which are not binding errors, so that those are
+    // thrown when the value is accessed the same way as when the record is bound on access.
+    private Throwable[] errors;
+
+    KafkaRecordBatchBinder(ConsumerRecords consumerRecords, Function<ConsumerRecord, Object> binder,
+                           int parallelBindingThreshold) {
+        this.records = new ArrayList<>(consumerRecords.count());
+        for (Object consumerRecord : consumerRecords) {
+            this.records.add((ConsumerRecord) consumerRecord);
+        }
+        this.binder = binder;
+        if (parallelBindingThreshold > 0 && this.records.size() >= parallelBindingThreshold) {
+            bindInParallel();
+        }
+    }
+
+    /**
+     * Binds the records of the batch which are not bound yet, so that accessing the values does not bind them.
+     */
+    void bind() {
+        if (values == null) {
+            this.values = new Object[records.size()];
+            this.errors = new Throwable[records.size()];
+            bindRange(0, records.size());
+        }
+    }
+
+    // Closing the executor waits for all the chunks to be bound.
+    private void bindInParallel() {
+        this.values = new Object[records.size()];
+        this.errors = new Throwable[records.size()];
+        int chunkSize = (records.size() + PARALLELISM - 1) / PARALLELISM;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int start = 0; start < records.size(); start += chunkSize) {
+                int chunkStart = start;
+                int chunkEnd = Math.min(start + chunkSize, records.size());
+                executor.execute(() -> bindRange(chunkStart, chunkEnd));
+            }
+        }
+    }
+
+    private void bindRange(int start, int end) {
+        for (int index = start; index < end; index++) {
+            try {
+                this.values[index] = binder.apply(this.records.get(index));
+            } catch (Throwable t) {
+                this.errors[index] = t;
+            }
+        }
+    }
+
+    /**
+     * Validates the bound values of the batch in a single call. Only when the batch fails the validation, the values
+     * are validated one at a time to find the records failing the validation, whose outcome becomes the error.
+     *
+     * @param validator validator of the binding target
+     * @param autoSeek  whether the records failing the validation are seeked past
+     */
+    void validate(KafkaConstraintValidator validator, boolean autoSeek) {
+        bind();
+        List<Object> boundValues = new ArrayList<>(records.size());
+        for (int index = 0; index < records.size(); index++) {
+            if (errors[index] == null) {
+                boundValues.add(values[index]);
+            }
+        }
+        if (validator.isValid(boundValues)) {
+            return;
+        }
+        for (int index = 0; index < records.size(); index++) {
+            if (errors[index] == null) {
+                try {
+                    validator.validate(values[index], records.get(index), autoSeek);
+                } catch (BError bError) {
+                    errors[index] = bError;
+                }
+            }
+        }
+    }
+
+    int size() {
+        return records.size();
+    }
+
+    ConsumerRecord getRecord(int index) {
+        return records.get(index);
+    }
+
+    /**
+     * Returns the bound value of the record at the given index.
+     *
+     * @param index index of the record in the batch
+     * @return bound value of the record
+     * @throws BError if the record cannot be bound, or any other exception thrown while binding the record
+     */
+    Object getValue(int index) {
+        if (values == null) {
+            return binder.apply(records.get(index));
+        }
+        Throwable error = errors[index];
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (error instanceof Error e) {
+            throw e;
+        }
+        return values[index];
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSTRAINT_VALIDATION;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_CONFIG_FIELD_NAME;
+
+/**
+ * {@code KafkaRecordBinderCache} keeps the binders of the types polled by a consumer, so that each type is resolved
+ * once for the consumer instead of once for each polled batch.
+ */
+public class KafkaRecordBinderCache {
+
+    private final boolean validateConstraints;
+    private final Set<String> headerKeys;
+    private final KafkaRecordDeserializer recordDeserializer;
+    private final Map<Type, KafkaUtils.ConsumerRecordBinder> consumerRecordBinders = new ConcurrentHashMap<>();
+    private final Map<Type, KafkaUtils.PayloadBinder> payloadBinders = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the binder cache of the given consumer.
+     *
+     * @param consumerObject     consumer polling the records
+     * @param recordDeserializer deserializer of the keys and values of the records of the consumer
+     */
+    public KafkaRecordBinderCache(BObject consumerObject, KafkaRecordDeserializer recordDeserializer) {
+        this.validateConstraints = (boolean) consumerObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME)
+                .get(CONSTRAINT_VALIDATION);
+        this.headerKeys = KafkaUtils.getHeaderKeysConfig(consumerObject);
+        this.recordDeserializer = recordDeserializer;
+    }
+
+    /**
+     * Returns the binder of the given consumer record array type.
+     *
+     * @param type consumer record array type, or its intersection with readonly
+     * @return binder of the consumer records
+     */
+    public KafkaUtils.ConsumerRecordBinder getConsumerRecordBinder(Type type) {
+        return consumerRecordBinders.computeIfAbsent(type, key -> new KafkaUtils.ConsumerRecordBinder(
+                getRecordType(key), key.isReadOnly(), validateConstraints, headerKeys, recordDeserializer));
+    }
+
+    /**
+     * Returns the binder of the given payload array type.
+     *
+     * @param type payload array type, or its intersection with readonly
+     * @return binder of the payloads
+     */
+    public KafkaUtils.PayloadBinder getPayloadBinder(Type type) {
+        return payloadBinders.computeIfAbsent(type, key -> new KafkaUtils.PayloadBinder(
+                TypeUtils.getImpliedType(key), validateConstraints, recordDeserializer));
+    }
+
+    private static RecordType getRecordType(Type type) {
+        if (type.isReadOnly()) {
+            return (RecordType) getReferredType(((IntersectionType) getReferredType(((ArrayType)
+                    TypeUtils.getImpliedType(type)).getElementType())).getConstituentTypes().get(0));
+        }
+        return (RecordType) getReferredType(((ArrayType) getReferredType(type)).getElementType());
+    }
+}
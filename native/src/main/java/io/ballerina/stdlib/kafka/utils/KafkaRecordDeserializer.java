@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.kafka.api.KafkaDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_KEY_DESERIALIZER_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_TOPIC_VALUE_DESERIALIZERS_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_VALUE_DESERIALIZER_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.UNCHECKED;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
+
+/**
+ * {@code KafkaRecordDeserializer} creates the binders of the keys and values of the records received by a consumer,
+ * with the deserializers selected in the consumer configuration. The keys and values are bound based on their
+ * intended types when no deserializer is selected.
+ */
+public class KafkaRecordDeserializer {
+
+    public static final KafkaRecordDeserializer DEFAULT = new KafkaRecordDeserializer(null, null, Map.of());
+
+    private final KafkaDeserializer keyDeserializer;
+    private final KafkaDeserializer valueDeserializer;
+    private final Map<String, KafkaDeserializer> topicValueDeserializers;
+
+    private KafkaRecordDeserializer(KafkaDeserializer keyDeserializer, KafkaDeserializer valueDeserializer,
+                                    Map<String, KafkaDeserializer> topicValueDeserializers) {
+        this.keyDeserializer = keyDeserializer;
+        this.valueDeserializer = valueDeserializer;
+        this.topicValueDeserializers = topicValueDeserializers;
+    }
+
+    /**
+     * Resolves the deserializers selected in the given consumer configuration.
+     *
+     * @param configs consumer configuration
+     * @return deserializer of the records of the consumer
+     * @throws BError if a selected deserializer is not registered
+     */
+    @SuppressWarnings(UNCHECKED)
+    public static KafkaRecordDeserializer create(BMap<BString, Object> configs) {
+        KafkaDeserializer keyDeserializer = getDeserializer(configs.getStringValue(CONSUMER_KEY_DESERIALIZER_CONFIG));
+        KafkaDeserializer valueDeserializer = getDeserializer(
+                configs.getStringValue(CONSUMER_VALUE_DESERIALIZER_CONFIG));
+        Map<String, KafkaDeserializer> topicValueDeserializers = new HashMap<>();
+        BMap<BString, Object> topicConfigs = (BMap<BString, Object>) configs.getMapValue(
+                CONSUMER_TOPIC_VALUE_DESERIALIZERS_CONFIG);
+        if (topicConfigs != null) {
+            for (Map.Entry<BString, Object> entry : topicConfigs.entrySet()) {
+                topicValueDeserializers.put(entry.getKey().getValue(), getDeserializer((BString) entry.getValue()));
+            }
+        }
+        if (keyDeserializer == null && valueDeserializer == null && topicValueDeserializers.isEmpty()) {
+            return DEFAULT;
+        }
+        return new KafkaRecordDeserializer(keyDeserializer, valueDeserializer, topicValueDeserializers);
+    }
+
+    /**
+     * Creates the binder of the keys of the given intended type.
+     *
+     * @param type intended type of the keys
+     * @return binder of the keys
+     */
+    public KafkaValueBinder createKeyBinder(Type type) {
+        return KafkaValueBinder.create(type, keyDeserializer);
+    }
+
+    /**
+     * Creates the binder of the values of the given intended type.
+     *
+     * @param type intended type of the values
+     * @return binder of the values
+     */
+    public KafkaValueBinder createValueBinder(Type type) {
+        return KafkaValueBinder.create(type, valueDeserializer, topicValueDeserializers);
+    }
+
+    private static KafkaDeserializer getDeserializer(BString name) {
+        if (name == null) {
+            return null;
+        }
+        KafkaDeserializer deserializer = KafkaSerDesRegistry.getDeserializer(name.getValue());
+        if (deserializer == null) {
+            throw createKafkaError("No deserializer is registered with the name '" + name.getValue() + "'");
+        }
+        return deserializer;
+    }
+}
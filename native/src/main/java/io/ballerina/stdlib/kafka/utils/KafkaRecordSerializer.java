@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.kafka.api.KafkaSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PRODUCER_KEY_SERIALIZER_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PRODUCER_TOPIC_VALUE_SERIALIZERS_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PRODUCER_VALUE_SERIALIZER_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.UNCHECKED;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
+
+/**
+ * {@code KafkaRecordSerializer} serializes the keys and values of the records sent by a producer, with the
+ * serializers selected in the producer configuration.
+ */
+public class KafkaRecordSerializer {
+
+    private final KafkaSerializer keySerializer;
+    private final KafkaSerializer valueSerializer;
+    private final Map<String, KafkaSerializer> topicValueSerializers;
+
+    private KafkaRecordSerializer(KafkaSerializer keySerializer, KafkaSerializer valueSerializer,
+                                  Map<String, KafkaSerializer> topicValueSerializers) {
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.topicValueSerializers = topicValueSerializers;
+    }
+
+    /**
+     * Resolves the serializers selected in the given producer configuration.
+     *
+     * @param configs producer configuration
+     * @return serializer of the records of the producer
+     * @throws BError if a selected serializer is not registered
+     */
+    @SuppressWarnings(UNCHECKED)
+    public static KafkaRecordSerializer create(BMap<BString, Object> configs) {
+        KafkaSerializer keySerializer = getSerializer(configs.getStringValue(PRODUCER_KEY_SERIALIZER_CONFIG));
+        KafkaSerializer valueSerializer = getSerializer(configs.getStringValue(PRODUCER_VALUE_SERIALIZER_CONFIG));
+        Map<String, KafkaSerializer> topicValueSerializers = new HashMap<>();
+        BMap<BString, Object> topicConfigs = (BMap<BString, Object>) configs.getMapValue(
+                PRODUCER_TOPIC_VALUE_SERIALIZERS_CONFIG);
+        if (topicConfigs != null) {
+            for (Map.Entry<BString, Object> entry : topicConfigs.entrySet()) {
+                topicValueSerializers.put(entry.getKey().getValue(), getSerializer((BString) entry.getValue()));
+            }
+        }
+        return new KafkaRecordSerializer(keySerializer, valueSerializer, topicValueSerializers);
+    }
+
+    /**
+     * Serializes the key of a record sent to the given topic.
+     *
+     * @param topic topic to which the record is sent
+     * @param key   Ballerina key of the record
+     * @return serialized key
+     * @throws BError if the key cannot be serialized
+     */
+    public byte[] serializeKey(String topic, Object key) {
+        return serialize(keySerializer, topic, key);
+    }
+
+    /**
+     * Serializes the value of a record sent to the given topic.
+     *
+     * @param topic topic to which the record is sent
+     * @param value Ballerina value of the record
+     * @return serialized value
+     * @throws BError if the value cannot be serialized
+     */
+    public byte[] serializeValue(String topic, Object value) {
+        return serialize(topicValueSerializers.getOrDefault(topic, valueSerializer), topic, value);
+    }
+
+    private static byte[] serialize(KafkaSerializer serializer, String topic, Object value) {
+        try {
+            return KafkaBuiltInSerDes.getBytes(serializer.serialize(topic, value));
+        } catch (BError e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw createKafkaError("Failed to serialize the value with the " + serializer.getName()
+                    + " serializer: " + e.getMessage());
+        }
+    }
+
+    private static KafkaSerializer getSerializer(BString name) {
+        if (name == null) {
+            return KafkaSerDesRegistry.getSerializer(KafkaBuiltInSerDes.BYTE_ARRAY);
+        }
+        KafkaSerializer serializer = KafkaSerDesRegistry.getSerializer(name.getValue());
+        if (serializer == null) {
+            throw createKafkaError("No serializer is registered with the name '" + name.getValue() + "'");
+        }
+        return serializer;
+    }
+}
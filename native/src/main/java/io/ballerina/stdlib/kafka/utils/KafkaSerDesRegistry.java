@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.stdlib.kafka.api.KafkaDeserializer;
+import io.ballerina.stdlib.kafka.api.KafkaSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code KafkaSerDesRegistry} keeps the serializers and deserializers, which can be selected by name in the client
+ * configurations. The built-in ones are registered first, followed by the ones discovered as services, hence a
+ * discovered serializer or deserializer cannot replace a built-in one.
+ */
+public class KafkaSerDesRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaSerDesRegistry.class);
+    private static final Map<String, KafkaSerializer> SERIALIZERS = new ConcurrentHashMap<>();
+    private static final Map<String, KafkaDeserializer> DESERIALIZERS = new ConcurrentHashMap<>();
+
+    static {
+        KafkaBuiltInSerDes.SERIALIZERS.forEach(KafkaSerDesRegistry::register);
+        KafkaBuiltInSerDes.DESERIALIZERS.forEach(KafkaSerDesRegistry::register);
+        ClassLoader classLoader = KafkaSerDesRegistry.class.getClassLoader();
+        load(ServiceLoader.load(KafkaSerializer.class, classLoader).iterator());
+        load(ServiceLoader.load(KafkaDeserializer.class, classLoader).iterator());
+    }
+
+    private KafkaSerDesRegistry() {
+    }
+
+    /**
+     * Registers a serializer, unless a serializer is already registered with the same name.
+     *
+     * @param serializer serializer to be registered
+     * @return {@code true} if the serializer is registered
+     */
+    public static boolean register(KafkaSerializer serializer) {
+        return SERIALIZERS.putIfAbsent(serializer.getName(), serializer) == null;
+    }
+
+    /**
+     * Registers a deserializer, unless a deserializer is already registered with the same name.
+     *
+     * @param deserializer deserializer to be registered
+     * @return {@code true} if the deserializer is registered
+     */
+    public static boolean register(KafkaDeserializer deserializer) {
+        return DESERIALIZERS.putIfAbsent(deserializer.getName(), deserializer) == null;
+    }
+
+    /**
+     * Returns the serializer registered with the given name.
+     *
+     * @param name name of the serializer
+     * @return serializer, or {@code null} if no serializer is registered with the name
+     */
+    public static KafkaSerializer getSerializer(String name) {
+        return SERIALIZERS.get(name);
+    }
+
+    /**
+     * Returns the deserializer registered with the given name.
+     *
+     * @param name name of the deserializer
+     * @return deserializer, or {@code null} if no deserializer is registered with the name
+     */
+    public static KafkaDeserializer getDeserializer(String name) {
+        return DESERIALIZERS.get(name);
+    }
+
+    private static void load(Iterator<?> providers) {
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    return;
+                }
+                Object provider = providers.next();
+                boolean registered = provider instanceof KafkaSerializer ? register((KafkaSerializer) provider)
+                        : register((KafkaDeserializer) provider);
+                if (!registered) {
+                    logger.warn("Ignoring " + provider.getClass().getName() + " as a serializer or a deserializer "
+                            + "is already registered with the same name");
+                }
+            } catch (ServiceConfigurationError e) {
+                logger.error("Failed to load a Kafka serializer or deserializer: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -31,12 +31,8 @@ import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.types.UnionType;
-import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
-import io.ballerina.runtime.api.utils.ValueUtils;
-import io.ballerina.runtime.api.utils.XmlUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
@@ -44,9 +40,13 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.stdlib.constraint.Constraints;
+import io.ballerina.stdlib.kafka.api.KafkaOffsetHandler;
+import io.ballerina.stdlib.kafka.observability.KafkaClientMetricsReporter;
 import io.ballerina.stdlib.kafka.observability.KafkaMetricsUtil;
 import io.ballerina.stdlib.kafka.observability.KafkaObservabilityConstants;
+import io.ballerina.stdlib.kafka.observability.KafkaPollStageRecorder;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -58,13 +58,10 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.SaslConfigs;
 import org.apache.kafka.common.config.SslConfigs;
-import org.apache.kafka.common.header.Header;
-import org.apache.kafka.common.header.Headers;
 import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -73,26 +70,28 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static io.ballerina.runtime.api.types.TypeTags.ANYDATA_TAG;
-import static io.ballerina.runtime.api.types.TypeTags.ARRAY_TAG;
-import static io.ballerina.runtime.api.types.TypeTags.BYTE_TAG;
 import static io.ballerina.runtime.api.types.TypeTags.INTERSECTION_TAG;
-import static io.ballerina.runtime.api.types.TypeTags.STRING_TAG;
-import static io.ballerina.runtime.api.types.TypeTags.UNION_TAG;
-import static io.ballerina.runtime.api.types.TypeTags.XML_TAG;
 import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.ADDITIONAL_PROPERTIES_MAP_FIELD;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_CONCURRENT_PARTITION_DISPATCH_CONFIG;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_CONFIG_FIELD_NAME;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_ENABLE_AUTO_COMMIT;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_ENABLE_AUTO_COMMIT_CONFIG;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_ENABLE_AUTO_SEEK_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_HEADER_KEYS_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_KEY_ORDERED_DISPATCH_CONFIG;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.CONSUMER_PARALLEL_BINDING_THRESHOLD_CONFIG;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_ERROR;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_HEADERS;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_KEY;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_PARTITION_OFFSET;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_TIMESTAMP;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.KAFKA_RECORD_VALUE;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_RECORD_BINDER_CACHE;
+import static io.ballerina.stdlib.kafka.utils.KafkaConstants.NATIVE_RECORD_DESERIALIZER;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PAYLOAD_BINDING_ERROR;
 import static io.ballerina.stdlib.kafka.utils.KafkaConstants.PAYLOAD_VALIDATION_ERROR;
 import static io.ballerina.stdlib.kafka.utils.ModuleUtils.getModule;
@@ -102,6 +101,12 @@ import static io.ballerina.stdlib.kafka.utils.ModuleUtils.getModule;
  */
 public class KafkaUtils {
 
+    // Readonly TopicPartition records shared by the consumer records of a partition, bounded as the partitions are
+    // not known upfront.
+    private static final int MAX_CACHED_TOPIC_PARTITIONS = 4096;
+    private static final Map<TopicPartition, BMap<BString, Object>> TOPIC_PARTITION_RECORDS =
+            new ConcurrentHashMap<>();
+
     private KafkaUtils() {
     }
 
@@ -118,6 +123,8 @@ public class KafkaUtils {
                                 KafkaConstants.CONSUMER_METRICS_RECORDING_LEVEL_CONFIG);
         addStringParamIfPresent(ConsumerConfig.METRIC_REPORTER_CLASSES_CONFIG, configurations, properties,
                                 KafkaConstants.CONSUMER_METRIC_REPORTER_CLASSES_CONFIG);
+        addClientMetricsReporter(configurations, properties, KafkaConstants.CONSUMER_CLIENT_METRICS_CONFIG,
+                                 KafkaConstants.CONSUMER_CLIENT_METRICS_SAMPLE_INTERVAL_CONFIG);
         addStringParamIfPresent(ConsumerConfig.CLIENT_ID_CONFIG, configurations, properties,
                                 KafkaConstants.CONSUMER_CLIENT_ID_CONFIG);
         addStringParamIfPresent(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, configurations, properties,
@@ -179,8 +186,24 @@ public class KafkaUtils {
                              KafkaConstants.ALIAS_POLLING_TIMEOUT);
         addTimeParamIfPresent(KafkaConstants.ALIAS_POLLING_INTERVAL.getValue(), configurations, properties,
                              KafkaConstants.ALIAS_POLLING_INTERVAL);
+        addStringParamIfPresent(KafkaConstants.ALIAS_POLLING_MODE.getValue(), configurations, properties,
+                                KafkaConstants.ALIAS_POLLING_MODE);
         addIntParamIfPresent(KafkaConstants.ALIAS_CONCURRENT_CONSUMERS.getValue(), configurations, properties,
                              KafkaConstants.ALIAS_CONCURRENT_CONSUMERS);
+        addIntParamIfPresent(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES.getValue(), configurations, properties,
+                             KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES);
+        addTimeParamIfPresent(KafkaConstants.ALIAS_BACK_PRESSURE_TIMEOUT.getValue(), configurations, properties,
+                              KafkaConstants.ALIAS_BACK_PRESSURE_TIMEOUT);
+        addTimeParamIfPresent(KafkaConstants.ALIAS_OFFSET_COMMIT_INTERVAL.getValue(), configurations, properties,
+                              KafkaConstants.ALIAS_OFFSET_COMMIT_INTERVAL);
+        addIntParamIfPresent(KafkaConstants.ALIAS_MAX_UNCOMMITTED_RECORDS.getValue(), configurations, properties,
+                             KafkaConstants.ALIAS_MAX_UNCOMMITTED_RECORDS);
+        addIntParamIfPresent(KafkaConstants.ALIAS_MIN_BATCH_RECORDS.getValue(), configurations, properties,
+                             KafkaConstants.ALIAS_MIN_BATCH_RECORDS);
+        addIntParamIfPresent(KafkaConstants.ALIAS_MAX_BATCH_BYTES.getValue(), configurations, properties,
+                             KafkaConstants.ALIAS_MAX_BATCH_BYTES);
+        addTimeParamIfPresent(KafkaConstants.ALIAS_MAX_BATCH_WAIT.getValue(), configurations, properties,
+                              KafkaConstants.ALIAS_MAX_BATCH_WAIT);
 
         properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         addBooleanParamIfPresent(ConsumerConfig.CHECK_CRCS_CONFIG, configurations, properties,
@@ -219,6 +242,8 @@ public class KafkaUtils {
                                 properties, KafkaConstants.PRODUCER_METRICS_RECORDING_LEVEL_CONFIG);
         addStringParamIfPresent(ProducerConfig.METRIC_REPORTER_CLASSES_CONFIG, configurations,
                                 properties, KafkaConstants.PRODUCER_METRIC_REPORTER_CLASSES_CONFIG);
+        addClientMetricsReporter(configurations, properties, KafkaConstants.PRODUCER_CLIENT_METRICS_CONFIG,
+                                 KafkaConstants.PRODUCER_CLIENT_METRICS_SAMPLE_INTERVAL_CONFIG);
         addStringParamIfPresent(ProducerConfig.PARTITIONER_CLASS_CONFIG, configurations,
                                 properties, KafkaConstants.PRODUCER_PARTITIONER_CLASS_CONFIG);
         addStringParamIfPresent(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, configurations,
@@ -430,6 +455,22 @@ public class KafkaUtils {
         }
     }
 
+    // Kafka client metrics are reported only when the metrics are enabled, and unless none of them are selected.
+    private static void addClientMetricsReporter(BMap<BString, Object> configs, Properties configParams,
+                                                 BString metricsKey, BString sampleIntervalKey) {
+        if (!ObserveUtils.isMetricsEnabled()
+                || (configs.containsKey(metricsKey) && ((BArray) configs.get(metricsKey)).size() == 0)) {
+            return;
+        }
+        addStringArrayAsStringParamIfPresent(KafkaConstants.CLIENT_METRICS, configs, configParams, metricsKey);
+        addTimeParamIfPresent(KafkaConstants.CLIENT_METRICS_SAMPLE_INTERVAL_MS, configs, configParams,
+                              sampleIntervalKey);
+        String reporterClasses = configParams.getProperty(CommonClientConfigs.METRIC_REPORTER_CLASSES_CONFIG);
+        configParams.setProperty(CommonClientConfigs.METRIC_REPORTER_CLASSES_CONFIG, reporterClasses == null
+                ? KafkaClientMetricsReporter.class.getName()
+                : reporterClasses + "," + KafkaClientMetricsReporter.class.getName());
+    }
+
     private static void addStringArrayAsStringParamIfPresent(String paramName,
                                                      BMap<BString, Object> configs,
                                                      Properties configParams,
@@ -536,124 +577,84 @@ public class KafkaUtils {
 
     public static BMap<BString, Object> populateConsumerRecord(ConsumerRecord record, RecordType recordType,
                                                                boolean validateConstraints, boolean autoSeek) {
-        Object key = null;
-        Map<String, Field> fieldMap = recordType.getFields();
-        Type keyType = getReferredType(fieldMap.get(KAFKA_RECORD_KEY).getFieldType());
-        Type valueType = getReferredType(fieldMap.get(KAFKA_RECORD_VALUE).getFieldType());
-        if (Objects.nonNull(record.key())) {
-            key = getValueWithIntendedType(keyType, (byte[]) record.key(), record, autoSeek);
-        }
-
-        Object value = getValueWithIntendedType(valueType, (byte[]) record.value(), record, autoSeek);
-        BMap<BString, Object> topicPartition = ValueCreator.createRecordValue(getTopicPartitionRecord(), record.topic(),
-                (long) record.partition());
-        MapType headerType = (MapType) getReferredType(fieldMap.get(KAFKA_RECORD_HEADERS.getValue()).getFieldType());
-        BMap bHeaders = getBHeadersFromConsumerRecord(record.headers(), headerType.getConstrainedType());
-        BMap<BString, Object> consumerRecord = ValueCreator.createRecordValue(recordType);
-        consumerRecord.put(StringUtils.fromString(KAFKA_RECORD_KEY), key);
-        consumerRecord.put(StringUtils.fromString(KAFKA_RECORD_VALUE), value);
-        consumerRecord.put(KAFKA_RECORD_TIMESTAMP, record.timestamp());
-        consumerRecord.put(KAFKA_RECORD_PARTITION_OFFSET, ValueCreator.createRecordValue(
-                getPartitionOffsetRecord(), topicPartition, record.offset()));
-        consumerRecord.put(KAFKA_RECORD_HEADERS, bHeaders);
-        if (validateConstraints) {
-            validateConstraints(consumerRecord, ValueCreator.createTypedescValue(recordType), record, autoSeek);
+        ConsumerRecordBinder binder = new ConsumerRecordBinder(recordType, false, validateConstraints, null,
+                                                               KafkaRecordDeserializer.DEFAULT);
+        BMap<BString, Object> consumerRecord = populateConsumerRecord(record, binder, autoSeek);
+        if (Objects.nonNull(binder.validator)) {
+            binder.validator.validate(consumerRecord, record, autoSeek);
         }
         return consumerRecord;
     }
 
-    private static BMap getBHeadersFromConsumerRecord(Headers headers, Type headerType) {
-        HashMap<String, ArrayList<byte[]>> headerMap = new HashMap<>();
-        for (Header header : headers) {
-            if (headerMap.containsKey(header.key())) {
-                ArrayList<byte[]> headerList = headerMap.get(header.key());
-                headerList.add(header.value());
-            } else {
-                ArrayList headerList = new ArrayList<byte[]>();
-                headerList.add(header.value());
-                headerMap.put(header.key(), headerList);
-            }
+    private static BMap<BString, Object> populateConsumerRecord(ConsumerRecord record, ConsumerRecordBinder binder,
+                                                                boolean autoSeek) {
+        // Only the fields declared in the consumer record type are bound.
+        Object key = null;
+        if (Objects.nonNull(binder.keyBinder) && Objects.nonNull(record.key())) {
+            key = getValueWithIntendedType(binder.keyBinder, (byte[]) record.key(), record, autoSeek);
         }
-        BMap bHeaderMap = ValueCreator.createMapValue();
-        headerMap.forEach((key, valueList) -> {
-            if (headerType instanceof UnionType unionType) {
-                Type appropriateType = getMostAppropriateTypeFromUnionType(unionType.getMemberTypes(),
-                        valueList.size());
-                handleSupportedTypesForHeaders(key, valueList, appropriateType, bHeaderMap);
-            } else {
-                handleSupportedTypesForHeaders(key, valueList, headerType, bHeaderMap);
-            }
-        });
-        return bHeaderMap;
-    }
 
-    private static void handleSupportedTypesForHeaders(String key, ArrayList<byte[]> list, Type appropriateType,
-                                                       BMap bHeaderMap) {
-        if (appropriateType instanceof ArrayType arrayType) {
-            handleHeaderValuesWithArrayType(key, list, arrayType, bHeaderMap);
-        } else if (appropriateType.getTag() == STRING_TAG) {
-            bHeaderMap.put(StringUtils.fromString(key), StringUtils.fromString(new String(list.get(0),
-                    StandardCharsets.UTF_8)));
+        Object value = getValueWithIntendedType(binder.valueBinder, (byte[]) record.value(), record, autoSeek);
+        BMap<BString, Object> consumerRecord = ValueCreator.createRecordValue(binder.recordType);
+        if (Objects.nonNull(binder.keyBinder)) {
+            consumerRecord.put(StringUtils.fromString(KAFKA_RECORD_KEY), key);
+        }
+        consumerRecord.put(StringUtils.fromString(KAFKA_RECORD_VALUE), value);
+        if (binder.hasTimestamp) {
+            consumerRecord.put(KAFKA_RECORD_TIMESTAMP, record.timestamp());
+        }
+        // The shared TopicPartition records are frozen, hence only used when the consumer record is readonly.
+        BMap<BString, Object> topicPartition = binder.readonlyRecords
+                ? getCachedTopicPartitionRecord(record.topic(), record.partition())
+                : populateTopicPartitionRecord(record.topic(), record.partition());
+        consumerRecord.put(KAFKA_RECORD_PARTITION_OFFSET, populatePartitionOffsetRecord(topicPartition,
+                record.offset()));
+        if (Objects.nonNull(binder.headerBinder)) {
+            consumerRecord.put(KAFKA_RECORD_HEADERS, binder.headerBinder.bind(record.headers(), binder.headerKeys));
         }
+        return consumerRecord;
     }
 
-    private static void handleHeaderValuesWithArrayType(String key, ArrayList<byte[]> list, ArrayType arrayType,
-                                                        BMap bHeaderMap) {
-        Type elementType = arrayType.getElementType();
-        if (elementType.getTag() == ARRAY_TAG) {
-            BArray valueArray = ValueCreator.createArrayValue(arrayType);
-            for (int i = 0; i < list.size(); i++) {
-                valueArray.add(i, ValueCreator.createArrayValue(list.get(i)));
+    private static BMap<BString, Object> getCachedTopicPartitionRecord(String topic, int partition) {
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        BMap<BString, Object> topicPartitionRecord = TOPIC_PARTITION_RECORDS.get(topicPartition);
+        if (topicPartitionRecord == null) {
+            topicPartitionRecord = populateTopicPartitionRecord(topic, partition);
+            topicPartitionRecord.freezeDirect();
+            if (TOPIC_PARTITION_RECORDS.size() < MAX_CACHED_TOPIC_PARTITIONS) {
+                TOPIC_PARTITION_RECORDS.putIfAbsent(topicPartition, topicPartitionRecord);
             }
-            bHeaderMap.put(StringUtils.fromString(key), valueArray);
-        } else if (elementType.getTag() == STRING_TAG) {
-            BArray valueArray = ValueCreator.createArrayValue(arrayType);
-            for (int i = 0; i < list.size(); i++) {
-                valueArray.add(i, StringUtils.fromString(new String(list.get(i), StandardCharsets.UTF_8)));
-            }
-            bHeaderMap.put(StringUtils.fromString(key), valueArray);
-        } else if (elementType.getTag() == BYTE_TAG) {
-            bHeaderMap.put(StringUtils.fromString(key), ValueCreator.createArrayValue(list.get(0)));
         }
+        return topicPartitionRecord;
     }
 
-    private static Type getMostAppropriateTypeFromUnionType(List<Type> memberTypes, int size) {
-        Type firstType = memberTypes.get(0);
-        if (memberTypes.size() == 1) {
-            return firstType;
-        }
-        if (size > 1) {
-            if (firstType instanceof ArrayType arrayType) {
-                if (arrayType.getElementType().getTag() == BYTE_TAG) {
-                    return getMostAppropriateTypeFromUnionType(memberTypes.subList(1, memberTypes.size()), size);
-                }
-                return arrayType;
-            }
-            return getMostAppropriateTypeFromUnionType(memberTypes.subList(1, memberTypes.size()), size);
-        } else {
-            if (firstType instanceof ArrayType arrayType) {
-                if (arrayType.getElementType().getTag() == BYTE_TAG) {
-                    return arrayType;
-                }
-                return getMostAppropriateTypeFromUnionType(memberTypes.subList(1, memberTypes.size()), size);
-            }
-            return firstType;
-        }
+    public static BArray getConsumerRecords(ConsumerRecords records, ConsumerRecordBinder binder, boolean autoCommit,
+                                            KafkaConsumer consumer, boolean autoSeek, int parallelBindingThreshold) {
+        return getConsumerRecords(records, binder, autoCommit, new KafkaConsumerOffsetHandler(consumer), autoSeek,
+                parallelBindingThreshold, null);
     }
 
-    public static BArray getConsumerRecords(ConsumerRecords records, RecordType recordType, boolean readonly,
-                                            boolean validateConstraints, boolean autoCommit,
-                                            KafkaConsumer consumer, boolean autoSeek) {
-        BArray consumerRecordsArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(recordType));
+    public static BArray getConsumerRecords(ConsumerRecords records, ConsumerRecordBinder binder, boolean autoCommit,
+                                            KafkaOffsetHandler offsetHandler, boolean autoSeek,
+                                            int parallelBindingThreshold, KafkaPollStageRecorder stageRecorder) {
+        long bindStartTime = System.nanoTime();
+        BArray consumerRecordsArray = ValueCreator.createArrayValue(binder.arrayType);
+        KafkaRecordBatchBinder batchBinder = new KafkaRecordBatchBinder(records,
+                record -> populateConsumerRecord(record, binder, autoSeek), parallelBindingThreshold);
+        long validateDuration = 0;
+        if (Objects.nonNull(binder.validator)) {
+            batchBinder.bind();
+            long validateStartTime = System.nanoTime();
+            batchBinder.validate(binder.validator, autoSeek);
+            validateDuration = System.nanoTime() - validateStartTime;
+        }
         HashMap<String, PartitionOffset> partitionOffsetMap = new HashMap<>();
-        int i = 0;
-        for (Object record : records) {
-            ConsumerRecord consumerRecord = (ConsumerRecord) record;
+        for (int i = 0; i < batchBinder.size(); i++) {
+            ConsumerRecord consumerRecord = batchBinder.getRecord(i);
             try {
-                consumerRecordsArray.append(populateConsumerRecord((ConsumerRecord) record, recordType,
-                        validateConstraints, autoSeek));
+                consumerRecordsArray.append(batchBinder.getValue(i));
             } catch (BError bError) {
-                if (handleBError(consumer, (ConsumerRecord) record, autoSeek, bError, i == 0)) {
+                if (handleBError(offsetHandler, consumerRecord, autoSeek, bError, i == 0)) {
                     break;
                 }
             }
@@ -661,20 +662,20 @@ public class KafkaUtils {
                 updatePartitionOffsetMap(partitionOffsetMap, consumerRecord,
                         consumerRecord.topic() + "-" + consumerRecord.partition());
             }
-            i++;
         }
-        if (readonly) {
+        if (binder.readonly) {
             consumerRecordsArray.freezeDirect();
         }
-        commitAndSeekConsumedRecord(consumer, partitionOffsetMap);
+        recordBindingStages(stageRecorder, bindStartTime, validateDuration);
+        offsetHandler.commit(partitionOffsetMap);
         return consumerRecordsArray;
     }
 
-    private static boolean handleBError(KafkaConsumer consumer, ConsumerRecord record, boolean autoSeek, BError bError,
-                                        boolean firstRecord) {
+    private static boolean handleBError(KafkaOffsetHandler offsetHandler, ConsumerRecord record, boolean autoSeek,
+                                        BError bError, boolean firstRecord) {
         if (isPayloadError(bError)) {
             if (!autoSeek) {
-                consumer.seek(new TopicPartition(record.topic(), record.partition()), record.offset());
+                offsetHandler.seek(new TopicPartition(record.topic(), record.partition()), record.offset());
                 if (firstRecord) {
                     throw bError;
                 }
@@ -688,17 +689,6 @@ public class KafkaUtils {
         return false;
     }
 
-    private static Map<TopicPartition, OffsetAndMetadata> getOffsetsFromMap(HashMap<String, PartitionOffset>
-                                                                                    partitionMap) {
-        Map<TopicPartition, OffsetAndMetadata> metadataMap = new HashMap<>();
-        for (PartitionOffset partitionOffset : partitionMap.values()
-                .toArray(new PartitionOffset[partitionMap.size()])) {
-            metadataMap.put(partitionOffset.getTopicPartition(),
-                    new OffsetAndMetadata(partitionOffset.getOffset() + 1));
-        }
-        return metadataMap;
-    }
-
     private static void updatePartitionOffsetMap(HashMap<String, PartitionOffset> partitionOffsetMap,
                                                  ConsumerRecord consumerRecord, String topicPartitionName) {
         if (partitionOffsetMap.containsKey(topicPartitionName)) {
@@ -711,35 +701,14 @@ public class KafkaUtils {
 
     public static Object getValueWithIntendedType(Type type, byte[] value, ConsumerRecord consumerRecord,
                                                   boolean autoSeek) {
-        String strValue = new String(value, StandardCharsets.UTF_8);
+        return getValueWithIntendedType(KafkaValueBinder.create(type), value, consumerRecord, autoSeek);
+    }
+
+    public static Object getValueWithIntendedType(KafkaValueBinder binder, byte[] value,
+                                                  ConsumerRecord consumerRecord, boolean autoSeek) {
         Object intendedValue;
         try {
-            switch (type.getTag()) {
-                case STRING_TAG:
-                    intendedValue = StringUtils.fromString(strValue);
-                    break;
-                case XML_TAG:
-                    intendedValue = XmlUtils.parse(strValue);
-                    break;
-                case ANYDATA_TAG:
-                    intendedValue = ValueCreator.createArrayValue(value);
-                    break;
-                case UNION_TAG:
-                    if (hasExpectedType((UnionType) type, STRING_TAG)) {
-                        intendedValue = StringUtils.fromString(strValue);
-                        break;
-                    }
-                    intendedValue = getValueFromJson(type, strValue);
-                    break;
-                case ARRAY_TAG:
-                    if (getReferredType(((ArrayType) type).getElementType()).getTag() == BYTE_TAG) {
-                        intendedValue = ValueCreator.createArrayValue(value);
-                        break;
-                    }
-                    /*-fallthrough*/
-                default:
-                    intendedValue = getValueFromJson(type, strValue);
-            }
+            intendedValue = binder.bind(consumerRecord.topic(), value);
         } catch (BError bError) {
             throw createPayloadBindingError(bError, consumerRecord, autoSeek);
         }
@@ -749,19 +718,6 @@ public class KafkaUtils {
         return intendedValue;
     }
 
-    private static boolean hasExpectedType(UnionType type, int typeTag) {
-        return type.getMemberTypes().stream().anyMatch(memberType -> {
-            if (memberType.getTag() == typeTag) {
-                return true;
-            }
-            return false;
-        });
-    }
-
-    private static Object getValueFromJson(Type type, String stringValue) {
-        return ValueUtils.convert(JsonUtils.parse(stringValue), type);
-    }
-
     public static BMap<BString, Object> getPartitionOffsetRecord() {
         return createKafkaRecord(KafkaConstants.OFFSET_STRUCT_NAME);
     }
@@ -1028,29 +984,37 @@ public class KafkaUtils {
         return Files.readString(Paths.get(filePath));
     }
 
-    public static BArray getValuesWithIntendedType(Type type, KafkaConsumer consumer, ConsumerRecords records,
-                                                   boolean constraintValidation, boolean autoCommit, boolean autoSeek) {
-        ArrayType intendedType;
-        if (type.getTag() == INTERSECTION_TAG) {
-            intendedType = (ArrayType) ((IntersectionType) type).getConstituentTypes().get(0);
-        } else {
-            intendedType = TypeCreator.createArrayType(((ArrayType) type).getElementType());
+    public static BArray getValuesWithIntendedType(ConsumerRecords records, PayloadBinder binder, boolean autoCommit,
+                                                   KafkaConsumer consumer, boolean autoSeek,
+                                                   int parallelBindingThreshold) {
+        return getValuesWithIntendedType(records, binder, autoCommit, new KafkaConsumerOffsetHandler(consumer),
+                autoSeek, parallelBindingThreshold, null);
+    }
+
+    public static BArray getValuesWithIntendedType(ConsumerRecords records, PayloadBinder binder, boolean autoCommit,
+                                                   KafkaOffsetHandler offsetHandler, boolean autoSeek,
+                                                   int parallelBindingThreshold,
+                                                   KafkaPollStageRecorder stageRecorder) {
+        long bindStartTime = System.nanoTime();
+        BArray bArray = ValueCreator.createArrayValue(binder.arrayType);
+        KafkaRecordBatchBinder batchBinder = new KafkaRecordBatchBinder(records,
+                record -> getValueWithIntendedType(binder.valueBinder, (byte[]) (record.value()), record, autoSeek),
+                parallelBindingThreshold);
+        KafkaConstraintValidator validator = binder.validator;
+        long validateDuration = 0;
+        if (Objects.nonNull(validator)) {
+            batchBinder.bind();
+            long validateStartTime = System.nanoTime();
+            batchBinder.validate(validator, autoSeek);
+            validateDuration = System.nanoTime() - validateStartTime;
         }
-        BArray bArray = ValueCreator.createArrayValue(intendedType);
         HashMap<String, PartitionOffset> partitionOffsetMap = new HashMap<>();
-        int i = 0;
-        for (Object record: records) {
-            ConsumerRecord consumerRecord = (ConsumerRecord) record;
+        for (int i = 0; i < batchBinder.size(); i++) {
+            ConsumerRecord consumerRecord = batchBinder.getRecord(i);
             try {
-                Object value = getValueWithIntendedType(getReferredType(intendedType.getElementType()),
-                        (byte[]) (consumerRecord.value()), consumerRecord, autoSeek);
-                if (constraintValidation) {
-                    validateConstraints(value, ValueCreator.createTypedescValue(intendedType.getElementType()),
-                            consumerRecord, autoSeek);
-                }
-                bArray.append(value);
+                bArray.append(batchBinder.getValue(i));
             } catch (BError bError) {
-                if (handleBError(consumer, (ConsumerRecord) record, autoSeek, bError, i == 0)) {
+                if (handleBError(offsetHandler, consumerRecord, autoSeek, bError, i == 0)) {
                     break;
                 }
             }
@@ -1058,29 +1022,111 @@ public class KafkaUtils {
                 updatePartitionOffsetMap(partitionOffsetMap, consumerRecord,
                         consumerRecord.topic() + "-" + consumerRecord.partition());
             }
-            i++;
         }
-        if (type.isReadOnly() || ((ArrayType) type).getElementType().isReadOnly()) {
+        if (binder.readonly) {
             bArray.freezeDirect();
         }
-        commitAndSeekConsumedRecord(consumer, partitionOffsetMap);
+        recordBindingStages(stageRecorder, bindStartTime, validateDuration);
+        offsetHandler.commit(partitionOffsetMap);
         return bArray;
     }
 
-    private static boolean isPayloadError(BError bError) {
-        return bError.getType().getName().equals(PAYLOAD_BINDING_ERROR) ||
-                bError.getType().getName().equals(PAYLOAD_VALIDATION_ERROR);
+    private static void recordBindingStages(KafkaPollStageRecorder stageRecorder, long bindStartTime,
+                                            long validateDuration) {
+        if (stageRecorder == null) {
+            return;
+        }
+        // Validation is recorded separately, hence it is excluded from the binding duration.
+        long bindDuration = System.nanoTime() - bindStartTime - validateDuration;
+        stageRecorder.recordDuration(KafkaPollStageRecorder.Stage.BIND, bindDuration);
+        if (validateDuration > 0) {
+            stageRecorder.recordDuration(KafkaPollStageRecorder.Stage.VALIDATE, validateDuration);
+        }
+    }
+
+    /**
+     * Resolves the binding of the fields of a consumer record type once, for all the records bound to the type.
+     */
+    public static final class ConsumerRecordBinder {
+
+        private final RecordType recordType;
+        private final ArrayType arrayType;
+        // Whether the bound batch is readonly, and whether its consumer records are readonly.
+        private final boolean readonly;
+        private final boolean readonlyRecords;
+        // The key, the timestamp and the headers may be left out of the consumer record type, in which case their
+        // binders are null and they are not bound.
+        private final KafkaValueBinder keyBinder;
+        private final KafkaValueBinder valueBinder;
+        private final boolean hasTimestamp;
+        private final KafkaHeaderBinder headerBinder;
+        private final Set<String> headerKeys;
+        // Null when the constraints are not validated or the consumer record type has no constraint annotations.
+        private final KafkaConstraintValidator validator;
+
+        /**
+         * Resolves the binding of the given consumer record type.
+         *
+         * @param recordType          consumer record type
+         * @param readonly            whether the bound batch is readonly
+         * @param validateConstraints whether the constraints of the consumer record type are validated
+         * @param headerKeys          keys of the headers to be bound, or null to bind all the headers
+         * @param recordDeserializer  deserializer of the keys and values of the records
+         */
+        public ConsumerRecordBinder(RecordType recordType, boolean readonly, boolean validateConstraints,
+                                    Set<String> headerKeys, KafkaRecordDeserializer recordDeserializer) {
+            Map<String, Field> fieldMap = recordType.getFields();
+            Field keyField = fieldMap.get(KAFKA_RECORD_KEY);
+            Field headersField = fieldMap.get(KAFKA_RECORD_HEADERS.getValue());
+            this.recordType = recordType;
+            this.arrayType = TypeCreator.createArrayType(recordType);
+            this.readonly = readonly;
+            this.readonlyRecords = readonly || recordType.isReadOnly();
+            this.keyBinder = keyField == null ? null : recordDeserializer.createKeyBinder(keyField.getFieldType());
+            this.valueBinder = recordDeserializer.createValueBinder(fieldMap.get(KAFKA_RECORD_VALUE).getFieldType());
+            this.hasTimestamp = fieldMap.containsKey(KAFKA_RECORD_TIMESTAMP.getValue());
+            this.headerBinder = headersField == null ? null : KafkaHeaderBinder.create(
+                    ((MapType) getReferredType(headersField.getFieldType())).getConstrainedType());
+            this.headerKeys = headerKeys;
+            this.validator = validateConstraints ? KafkaConstraintValidator.create(recordType) : null;
+        }
     }
 
-    private static void commitAndSeekConsumedRecord(KafkaConsumer consumer,
-                                                    HashMap<String, PartitionOffset> partitionOffsetMap) {
-        consumer.commitSync(getOffsetsFromMap(partitionOffsetMap));
-        for (PartitionOffset partitionOffset : partitionOffsetMap.values()
-                .toArray(new PartitionOffset[partitionOffsetMap.values().size()])) {
-            consumer.seek(partitionOffset.getTopicPartition(), partitionOffset.getOffset() + 1);
+    /**
+     * Resolves the binding of a payload array type once, for all the records bound to the type.
+     */
+    public static final class PayloadBinder {
+
+        private final ArrayType arrayType;
+        private final boolean readonly;
+        private final KafkaValueBinder valueBinder;
+        // Null when the constraints are not validated or the payload type has no constraint annotations.
+        private final KafkaConstraintValidator validator;
+
+        /**
+         * Resolves the binding of the given payload array type.
+         *
+         * @param type                payload array type, or its intersection with readonly
+         * @param validateConstraints whether the constraints of the payload type are validated
+         * @param recordDeserializer  deserializer of the values of the records
+         */
+        public PayloadBinder(Type type, boolean validateConstraints, KafkaRecordDeserializer recordDeserializer) {
+            if (type.getTag() == INTERSECTION_TAG) {
+                this.arrayType = (ArrayType) ((IntersectionType) type).getConstituentTypes().get(0);
+            } else {
+                this.arrayType = TypeCreator.createArrayType(((ArrayType) type).getElementType());
+            }
+            this.readonly = type.isReadOnly() || ((ArrayType) type).getElementType().isReadOnly();
+            this.valueBinder = recordDeserializer.createValueBinder(arrayType.getElementType());
+            this.validator = validateConstraints ? KafkaConstraintValidator.create(arrayType.getElementType()) : null;
         }
     }
 
+    private static boolean isPayloadError(BError bError) {
+        return bError.getType().getName().equals(PAYLOAD_BINDING_ERROR) ||
+                bError.getType().getName().equals(PAYLOAD_VALIDATION_ERROR);
+    }
+
     public static boolean getAutoCommitConfig(BObject bObject) {
         BMap consumerConfig = bObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME);
         if (consumerConfig.containsKey(ADDITIONAL_PROPERTIES_MAP_FIELD)) {
@@ -1096,4 +1142,37 @@ public class KafkaUtils {
     public static boolean getAutoSeekOnErrorConfig(BObject bObject) {
         return (boolean) bObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME).get(CONSUMER_ENABLE_AUTO_SEEK_CONFIG);
     }
+
+    public static boolean getConcurrentPartitionDispatchConfig(BObject bObject) {
+        return (boolean) bObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME)
+                .get(CONSUMER_CONCURRENT_PARTITION_DISPATCH_CONFIG);
+    }
+
+    public static int getParallelBindingThresholdConfig(BObject bObject) {
+        Object threshold = bObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME)
+                .get(CONSUMER_PARALLEL_BINDING_THRESHOLD_CONFIG);
+        return threshold == null ? 0 : ((Long) threshold).intValue();
+    }
+
+    public static Set<String> getHeaderKeysConfig(BObject bObject) {
+        BArray headerKeys = (BArray) bObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME).get(CONSUMER_HEADER_KEYS_CONFIG);
+        if (headerKeys == null) {
+            return null;
+        }
+        return Set.copyOf(List.of(headerKeys.getStringArray()));
+    }
+
+    public static KafkaRecordDeserializer getRecordDeserializer(BObject bObject) {
+        KafkaRecordDeserializer recordDeserializer =
+                (KafkaRecordDeserializer) bObject.getNativeData(NATIVE_RECORD_DESERIALIZER);
+        return recordDeserializer == null ? KafkaRecordDeserializer.DEFAULT : recordDeserializer;
+    }
+
+    public static KafkaRecordBinderCache getRecordBinderCache(BObject bObject) {
+        return (KafkaRecordBinderCache) bObject.getNativeData(NATIVE_RECORD_BINDER_CACHE);
+    }
+
+    public static boolean getKeyOrderedDispatchConfig(BObject bObject) {
+        return (boolean) bObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME).get(CONSUMER_KEY_ORDERED_DISPATCH_CONFIG);
+    }
 }
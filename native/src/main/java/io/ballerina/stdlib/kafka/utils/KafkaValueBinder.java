@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.kafka.api.KafkaDeserializer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.api.types.TypeTags.ANYDATA_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.ARRAY_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.BYTE_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.STRING_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.UNION_TAG;
+import static io.ballerina.runtime.api.types.TypeTags.XML_TAG;
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+import static io.ballerina.stdlib.kafka.utils.KafkaUtils.createKafkaError;
+
+/**
+ * {@code KafkaValueBinder} binds the serialized keys and values of the Kafka records to an intended type. The way of
+ * binding is resolved once for the type, hence the bytes of a record are converted straight to the intended value.
+ */
+public class KafkaValueBinder {
+
+    private final Function<byte[], Object> binder;
+    private final Map<String, KafkaValueBinder> topicBinders;
+
+    KafkaValueBinder(Function<byte[], Object> binder) {
+        this(binder, Map.of());
+    }
+
+    private KafkaValueBinder(Function<byte[], Object> binder, Map<String, KafkaValueBinder> topicBinders) {
+        this.binder = binder;
+        this.topicBinders = topicBinders;
+    }
+
+    /**
+     * Creates a binder for the given intended type.
+     *
+     * @param type intended type of the bound values
+     * @return binder of the intended type
+     */
+    public static KafkaValueBinder create(Type type) {
+        Type referredType = getReferredType(type);
+        switch (referredType.getTag()) {
+            case STRING_TAG:
+                return new KafkaValueBinder(KafkaValueBinder::bindString);
+            case XML_TAG:
+                return new KafkaValueBinder(value -> XmlUtils.parse(new ByteArrayInputStream(value)));
+            case ANYDATA_TAG:
+                return new KafkaValueBinder(ValueCreator::createArrayValue);
+            case UNION_TAG:
+                if (hasStringMemberType((UnionType) referredType)) {
+                    return new KafkaValueBinder(KafkaValueBinder::bindString);
+                }
+                return new KafkaValueBinder(value -> bindJson(value, referredType));
+            case ARRAY_TAG:
+                if (getReferredType(((ArrayType) referredType).getElementType()).getTag() == BYTE_TAG) {
+                    return new KafkaValueBinder(ValueCreator::createArrayValue);
+                }
+                return new KafkaValueBinder(value -> bindJson(value, referredType));
+            default:
+                // Records and maps are bound straight from the bytes when the binding does not need the conversion
+                // of the runtime.
+                return createJson(referredType);
+        }
+    }
+
+    /**
+     * Creates a binder for the given intended type, which binds the values from JSON regardless of the type.
+     *
+     * @param type intended type of the bound values
+     * @return binder of the intended type
+     */
+    public static KafkaValueBinder createJson(Type type) {
+        Type referredType = getReferredType(type);
+        KafkaJsonBinder jsonBinder = KafkaJsonBinder.create(referredType);
+        if (jsonBinder != null) {
+            return new KafkaValueBinder(jsonBinder::bind);
+        }
+        return new KafkaValueBinder(value -> bindJson(value, referredType));
+    }
+
+    /**
+     * Creates a binder for the given intended type, which binds the values with the given deserializer.
+     *
+     * @param type         intended type of the bound values
+     * @param deserializer deserializer of the values, or {@code null} to bind the values based on the type
+     * @return binder of the intended type
+     */
+    public static KafkaValueBinder create(Type type, KafkaDeserializer deserializer) {
+        if (deserializer == null) {
+            return create(type);
+        }
+        if (deserializer instanceof KafkaBuiltInSerDes.BuiltInDeserializer) {
+            return ((KafkaBuiltInSerDes.BuiltInDeserializer) deserializer).createBinder(type);
+        }
+        Function<ByteBuffer, Object> function = deserializer.forType(type);
+        return new KafkaValueBinder(value -> {
+            try {
+                return function.apply(ByteBuffer.wrap(value));
+            } catch (BError e) {
+                return e;
+            } catch (RuntimeException e) {
+                return createKafkaError("Failed to deserialize the value with the " + deserializer.getName()
+                        + " deserializer: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Creates a binder for the given intended type, which binds the values of the given topics with their own
+     * deserializers.
+     *
+     * @param type               intended type of the bound values
+     * @param deserializer       deserializer of the values of other topics, or {@code null} to bind them based on the
+     *                           type
+     * @param topicDeserializers deserializers of the values of the topics
+     * @return binder of the intended type
+     */
+    public static KafkaValueBinder create(Type type, KafkaDeserializer deserializer,
+                                          Map<String, KafkaDeserializer> topicDeserializers) {
+        KafkaValueBinder binder = create(type, deserializer);
+        if (topicDeserializers.isEmpty()) {
+            return binder;
+        }
+        Map<String, KafkaValueBinder> topicBinders = new HashMap<>();
+        topicDeserializers.forEach((topic, topicDeserializer) ->
+                topicBinders.put(topic, create(type, topicDeserializer)));
+        return new KafkaValueBinder(binder.binder, topicBinders);
+    }
+
+    /**
+     * Binds the given serialized value to the intended type of the binder.
+     *
+     * @param value serialized value
+     * @return bound value, or a {@code BError} if the value cannot be converted to the intended type
+     */
+    public Object bind(byte[] value) {
+        return binder.apply(value);
+    }
+
+    /**
+     * Binds the given serialized value of a record of the given topic to the intended type of the binder.
+     *
+     * @param topic topic of the record
+     * @param value serialized value
+     * @return bound value, or a {@code BError} if the value cannot be converted to the intended type
+     */
+    public Object bind(String topic, byte[] value) {
+        if (topicBinders.isEmpty()) {
+            return binder.apply(value);
+        }
+        return topicBinders.getOrDefault(topic, this).binder.apply(value);
+    }
+
+    private static Object bindString(byte[] value) {
+        return StringUtils.fromString(new String(value, StandardCharsets.UTF_8));
+    }
+
+    private static Object bindJson(byte[] value, Type type) {
+        return ValueUtils.convert(JsonUtils.parse(new ByteArrayInputStream(value)), type);
+    }
+
+    private static boolean hasStringMemberType(UnionType type) {
+        for (Type memberType : type.getMemberTypes()) {
+            if (memberType.getTag() == STRING_TAG) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
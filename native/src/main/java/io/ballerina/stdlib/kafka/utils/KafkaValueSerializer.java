@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.kafka.utils;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * {@code KafkaValueSerializer} serializes the keys and values of the produced records to bytes. A {@code byte[]} is
+ * used as it is, while strings and XML are encoded as UTF-8. Other values are written as UTF-8 encoded JSON straight
+ * into a growable buffer, without building the JSON string of the value first.
+ */
+public class KafkaValueSerializer {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private KafkaValueSerializer() {
+    }
+
+    /**
+     * Serializes a key or a value of a produced record.
+     *
+     * @param value anydata value to be serialized
+     * @return serialized bytes of the value
+     */
+    public static byte[] serialize(Object value) {
+        if (value instanceof BArray && isByteArray((BArray) value)) {
+            return ((BArray) value).getBytes();
+        } else if (value instanceof BString) {
+            return ((BString) value).getValue().getBytes(StandardCharsets.UTF_8);
+        } else if (value instanceof BXml) {
+            return StringUtils.getStringValue(value).getBytes(StandardCharsets.UTF_8);
+        }
+        return serializeJson(value);
+    }
+
+    /**
+     * Serializes a key or a value of a produced record as UTF-8 encoded JSON, including a {@code byte[]}, a string or
+     * an XML value.
+     *
+     * @param value anydata value to be serialized
+     * @return serialized bytes of the JSON value
+     */
+    public static byte[] serializeJson(Object value) {
+        // The Kafka producer takes an array of the exact size, hence the buffer is trimmed once it is written. The
+        // buffer is not pooled, as the trimmed copy is needed either way.
+        Buffer buffer = new Buffer();
+        writeJson(buffer, value);
+        return buffer.toByteArray();
+    }
+
+    private static void writeJson(Buffer buffer, Object value) {
+        if (value == null) {
+            buffer.write(NULL);
+        } else if (value instanceof BString) {
+            writeString(buffer, ((BString) value).getValue());
+        } else if (value instanceof Long || value instanceof Integer) {
+            buffer.writeAscii(value.toString());
+        } else if (value instanceof Boolean) {
+            buffer.write((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof BMap) {
+            writeMap(buffer, (BMap<?, ?>) value);
+        } else if (value instanceof BArray) {
+            writeArray(buffer, (BArray) value);
+        } else if (value instanceof BTable) {
+            writeTable(buffer, (BTable<?, ?>) value);
+        } else if (value instanceof BXml) {
+            writeString(buffer, StringUtils.getStringValue(value));
+        } else {
+            // Floats and decimals are written the same way as the runtime writes them to JSON.
+            buffer.writeUtf8(StringUtils.getJsonString(value), false);
+        }
+    }
+
+    private static void writeMap(Buffer buffer, BMap<?, ?> map) {
+        buffer.write('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                buffer.write(',');
+            }
+            first = false;
+            writeString(buffer, entry.getKey().toString());
+            buffer.write(':');
+            writeJson(buffer, entry.getValue());
+        }
+        buffer.write('}');
+    }
+
+    private static void writeArray(Buffer buffer, BArray array) {
+        buffer.write('[');
+        for (int i = 0; i < array.size(); i++) {
+            if (i > 0) {
+                buffer.write(',');
+            }
+            writeJson(buffer, array.get(i));
+        }
+        buffer.write(']');
+    }
+
+    private static void writeTable(Buffer buffer, BTable<?, ?> table) {
+        buffer.write('[');
+        boolean first = true;
+        for (Object row : table.values()) {
+            if (!first) {
+                buffer.write(',');
+            }
+            first = false;
+            writeJson(buffer, row);
+        }
+        buffer.write(']');
+    }
+
+    private static void writeString(Buffer buffer, String value) {
+        buffer.write('"');
+        buffer.writeUtf8(value, true);
+        buffer.write('"');
+    }
+
+    private static boolean isByteArray(BArray array) {
+        return TypeUtils.getReferredType(array.getElementType()).getTag() == TypeTags.BYTE_TAG;
+    }
+
+    private static final class Buffer {
+
+        private byte[] bytes;
+        private int size;
+
+        private Buffer() {
+            this.bytes = new byte[INITIAL_BUFFER_SIZE];
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+
+        private void write(int b) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) b;
+        }
+
+        private void write(byte[] b) {
+            ensureCapacity(b.length);
+            System.arraycopy(b, 0, bytes, size, b.length);
+            size += b.length;
+        }
+
+        private void writeAscii(String value) {
+            ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                bytes[size++] = (byte) value.charAt(i);
+            }
+        }
+
+        // Encodes the characters as UTF-8, escaping the characters which are not allowed in JSON strings if required.
+        private void writeUtf8(String value, boolean escape) {
+            ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (escape && (c < 0x20 || c == '"' || c == '\\')) {
+                        writeEscaped(c);
+                    } else {
+                        write(c);
+                    }
+                } else if (c < 0x800) {
+                    ensureCapacity(2);
+                    bytes[size++] = (byte) (0xC0 | (c >> 6));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    ensureCapacity(4);
+                    bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogates are replaced the same way as the standard UTF-8 encoder replaces them.
+                    write('?');
+                } else {
+                    ensureCapacity(3);
+                    bytes[size++] = (byte) (0xE0 | (c >> 12));
+                    bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void writeEscaped(char c) {
+            write('\\');
+            switch (c) {
+                case '"':
+                case '\\':
+                    write(c);
+                    break;
+                case '\b':
+                    write('b');
+                    break;
+                case '\f':
+                    write('f');
+                    break;
+                case '\n':
+                    write('n');
+                    break;
+                case '\r':
+                    write('r');
+                    break;
+                case '\t':
+                    write('t');
+                    break;
+                default:
+                    write('u');
+                    write('0');
+                    write('0');
+                    write(HEX_DIGITS[c >> 4]);
+                    write(HEX_DIGITS[c & 0xF]);
+                    break;
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -24,6 +24,7 @@ module io.ballerina.stdlib.kafka.runtime {
     requires org.slf4j;
     requires java.logging;
     requires io.ballerina.stdlib.constraint;
+    requires jdk.jfr;
     exports io.ballerina.stdlib.kafka.impl;
     exports io.ballerina.stdlib.kafka.nativeimpl.consumer;
     exports io.ballerina.stdlib.kafka.nativeimpl.producer;
@@ -31,4 +32,6 @@ module io.ballerina.stdlib.kafka.runtime {
     exports io.ballerina.stdlib.kafka.observability;
     exports io.ballerina.stdlib.kafka.api;
     exports io.ballerina.stdlib.kafka.exceptions;
+    uses io.ballerina.stdlib.kafka.api.KafkaSerializer;
+    uses io.ballerina.stdlib.kafka.api.KafkaDeserializer;
 }